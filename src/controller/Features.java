@@ -17,6 +17,13 @@ public interface Features {
    */
   void restartAnimation();
 
+  /**
+   * Triggers the animation to jump straight to the given tick, continuing to play from there if
+   * it was playing.
+   * @param tick represents the tick to jump to
+   */
+  void seekToTick(int tick);
+
   /**
    * Triggers the animation to toggle it's looping feature to the opposite state. Looping enabled
    * means that the animation will restart at tick 0 once the last motion has been fully executed.
@@ -0,0 +1,270 @@
+package controller;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+import javax.swing.SwingUtilities;
+import model.TempoTimeline;
+
+/**
+ * Represents the clock that drives the playback of an animation. A dedicated thread waits until
+ * each frame is due, measured with {@link System#nanoTime()}, and hands the frame to the Swing
+ * event dispatch thread along with the tick the animation should be at, computed from the time
+ * elapsed and the animation's timeline. Since the tick always comes from the elapsed time, small
+ * delays never add up, and tick rates too fast for a millisecond timer still play correctly.
+ *
+ * <p>Frames are either due at the start of every tick, or at a set number of frames per second.
+ * Only one frame waits on the event dispatch thread at a time; a frame that is due while another
+ * is still waiting is dropped, as are ticks skipped over when playback falls behind. Frames that
+ * reach the event dispatch thread noticeably after they were due are counted as late.</p>
+ */
+public final class PlaybackScheduler {
+  // how long after it is due a frame can be handed over without being counted as late
+  private static final long LATE_NANOS = 4_000_000L;
+  // how close to a frame's due time the thread stops sleeping and spins, for precision
+  private static final long SPIN_NANOS = 100_000L;
+
+  private final int fps;
+  private final DoubleConsumer frameTask;
+  private final AtomicBoolean framePending;
+
+  // the timeline of the animation, and the point in it playback was last anchored at: the time
+  // in the timeline, in milliseconds, that was playing at anchorNanos
+  private TempoTimeline timeline;
+  private double anchorMillis;
+  private long anchorNanos;
+  private boolean running;
+  private Thread thread;
+  // the last whole tick handed over, when frames are due every tick
+  private int lastTick;
+  private long lateFrames;
+  private long droppedFrames;
+
+  /**
+   * Constructs a stopped scheduler at tick 0 of the given timeline.
+   *
+   * @param timeline represents the timeline of the animation to play
+   * @param fps represents the number of frames per second, or 0 for a frame at every tick
+   * @param frameTask represents the task run on the event dispatch thread for each frame, given
+   *                  the fractional tick the animation should be at
+   * @throws IllegalArgumentException if timeline or frameTask are null, or fps is negative
+   */
+  public PlaybackScheduler(TempoTimeline timeline, int fps, DoubleConsumer frameTask) {
+    if (timeline == null || frameTask == null) {
+      throw new IllegalArgumentException("Scheduler cannot be constructed with null params.");
+    }
+    if (fps < 0) {
+      throw new IllegalArgumentException("Frames per second cannot be negative.");
+    }
+    this.timeline = timeline;
+    this.fps = fps;
+    this.frameTask = frameTask;
+    this.framePending = new AtomicBoolean(false);
+    this.anchorMillis = 0;
+    this.anchorNanos = System.nanoTime();
+    this.running = false;
+    this.thread = null;
+    this.lastTick = 0;
+    this.lateFrames = 0;
+    this.droppedFrames = 0;
+  }
+
+  /**
+   * Starts or resumes playback from the tick it was stopped at. Does nothing if already running.
+   */
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    anchorNanos = System.nanoTime();
+    thread = new Thread(this::run, "animation-playback");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Stops playback, keeping the tick it was at.
+   */
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    anchorMillis = millisAt(System.nanoTime());
+    anchorNanos = System.nanoTime();
+    running = false;
+    LockSupport.unpark(thread);
+    thread = null;
+  }
+
+  /**
+   * Returns whether playback is running.
+   *
+   * @return true if playback is running, false if it is stopped
+   */
+  public synchronized boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Moves playback to the start of the given tick, from now on.
+   *
+   * @param tick represents the tick to play from
+   * @throws IllegalArgumentException if tick is negative
+   */
+  public synchronized void seek(int tick) {
+    anchorMillis = timeline.getTimeOfTick(tick);
+    anchorNanos = System.nanoTime();
+    lastTick = tick;
+    LockSupport.unpark(thread);
+  }
+
+  /**
+   * Replaces the timeline playback follows, such as when the tick rate changes, continuing from
+   * the same fractional tick playing now.
+   *
+   * @param newTimeline represents the new timeline of the animation
+   * @throws IllegalArgumentException if newTimeline is null
+   */
+  public synchronized void setTimeline(TempoTimeline newTimeline) {
+    if (newTimeline == null) {
+      throw new IllegalArgumentException("Cannot play a null timeline.");
+    }
+    double tick = getTick();
+    int wholeTick = (int) tick;
+    double tickStart = newTimeline.getTimeOfTick(wholeTick);
+    anchorMillis = tickStart
+        + (tick - wholeTick) * (newTimeline.getTimeOfTick(wholeTick + 1) - tickStart);
+    anchorNanos = System.nanoTime();
+    timeline = newTimeline;
+    LockSupport.unpark(thread);
+  }
+
+  /**
+   * Returns the fractional tick playback is at now.
+   *
+   * @return the tick playing now
+   */
+  public synchronized double getTick() {
+    return timeline.getTickAtTime(millisAt(System.nanoTime()));
+  }
+
+  /**
+   * Returns the number of frames handed to the event dispatch thread noticeably after they were
+   * due.
+   *
+   * @return the number of late frames
+   */
+  public synchronized long getLateFrames() {
+    return lateFrames;
+  }
+
+  /**
+   * Returns the number of frames never handed over, either because the previous frame was still
+   * waiting on the event dispatch thread or because playback fell behind and skipped them.
+   *
+   * @return the number of dropped frames
+   */
+  public synchronized long getDroppedFrames() {
+    return droppedFrames;
+  }
+
+  /**
+   * Returns the time in the timeline playing at the given System.nanoTime, in milliseconds.
+   */
+  private double millisAt(long nanos) {
+    if (!running) {
+      return anchorMillis;
+    }
+    return anchorMillis + Math.max(0, nanos - anchorNanos) / 1e6;
+  }
+
+  /**
+   * Returns the System.nanoTime the given time in the timeline plays at.
+   */
+  private long nanosAt(double millis) {
+    return anchorNanos + (long) Math.ceil((millis - anchorMillis) * 1e6);
+  }
+
+  /**
+   * Waits for each frame to be due and hands it to the event dispatch thread, until stopped.
+   */
+  private void run() {
+    Thread self = Thread.currentThread();
+    long frameNanos = fps > 0 ? 1_000_000_000L / fps : 0;
+    long deadline = System.nanoTime() + frameNanos;
+    while (true) {
+      synchronized (this) {
+        if (!running || thread != self) {
+          return;
+        }
+        if (fps <= 0) {
+          // the next frame is due when the tick after the last one handed over starts
+          deadline = nanosAt(timeline.getTimeOfTick(lastTick + 1));
+        } else {
+          long behind = System.nanoTime() - deadline;
+          if (behind > frameNanos) {
+            // skip the frames that are already too late to show
+            droppedFrames += behind / frameNanos;
+            deadline += behind / frameNanos * frameNanos;
+          }
+        }
+      }
+
+      long now = System.nanoTime();
+      if (now < deadline) {
+        if (deadline - now > SPIN_NANOS) {
+          LockSupport.parkNanos(this, deadline - now - SPIN_NANOS);
+        } else {
+          Thread.onSpinWait();
+        }
+        // wake up early to check the deadline again, since seeking or stopping may change it
+        continue;
+      }
+
+      long due = deadline;
+      if (framePending.compareAndSet(false, true)) {
+        SwingUtilities.invokeLater(() -> deliverFrame(due));
+      } else if (fps > 0) {
+        synchronized (this) {
+          droppedFrames += 1;
+        }
+      }
+      if (fps > 0) {
+        deadline += frameNanos;
+      } else {
+        // wait for the event dispatch thread, so the same tick is not handed over twice
+        while (framePending.get() && isRunning()) {
+          LockSupport.parkNanos(this, SPIN_NANOS);
+        }
+      }
+    }
+  }
+
+  /**
+   * Hands the frame due at the given System.nanoTime to the frame task, on the event dispatch
+   * thread.
+   */
+  private void deliverFrame(long due) {
+    double tick;
+    synchronized (this) {
+      framePending.set(false);
+      if (!running) {
+        return;
+      }
+      long now = System.nanoTime();
+      if (now - due > LATE_NANOS) {
+        lateFrames += 1;
+      }
+      tick = timeline.getTickAtTime(millisAt(now));
+      if (fps <= 0) {
+        int wholeTick = (int) tick;
+        if (wholeTick > lastTick + 1) {
+          droppedFrames += wholeTick - lastTick - 1;
+        }
+        lastTick = Math.max(lastTick, wholeTick);
+      }
+    }
+    frameTask.accept(tick);
+  }
+}
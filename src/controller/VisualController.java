@@ -1,8 +1,6 @@
 package controller;
 
-import java.awt.event.ActionListener;
 import java.io.IOException;
-import javax.swing.Timer;
 import model.AnimationModel;
 import view.IAnimationView;
 
@@ -12,12 +10,16 @@ import view.IAnimationView;
  */
 public class VisualController extends MVCController {
   protected final Features features;
-  protected final Timer timer;
+  protected final PlaybackScheduler scheduler;
   private int slowMoTempo;
+  // the number of frames rendered per second, or 0 if a frame is rendered once per tick
+  private final int fps;
+  // the tick of the view, as far as the scheduler knows
+  private int playedTick;
 
   /**
    * Constructs a new controller with the given model, visual view, and tick rate.
-   * Also sets up the timer to be used for view.
+   * Also sets up the scheduler to be used for view.
    *
    * @param model represents the animation model that holds the information about this animation
    * @param view  represents the animation view that renders this animation
@@ -25,20 +27,39 @@ public class VisualController extends MVCController {
    * @throws IllegalArgumentException if model or view are null, or if speed is <= 0
    */
   public VisualController(AnimationModel model, IAnimationView view, int speed) {
+    this(model, view, speed, 0);
+  }
+
+  /**
+   * Constructs a new controller with the given model, visual view, and tick rate, that renders
+   * the given number of frames per second, independent of the tick rate. Frames between ticks are
+   * rendered at fractional ticks, so motions stay smooth at low tick rates. An fps of 0 renders
+   * one frame per tick instead.
+   *
+   * @param model represents the animation model that holds the information about this animation
+   * @param view  represents the animation view that renders this animation
+   * @param speed represents the initial tick rate of this animation, given as ticks per unit
+   * @param fps   represents the number of frames to render per second, or 0 for one per tick
+   * @throws IllegalArgumentException if model or view are null, if speed is <= 0, or if fps is
+   *          negative
+   */
+  public VisualController(AnimationModel model, IAnimationView view, int speed, int fps) {
     super(model, view, speed);
+    if (fps < 0) {
+      throw new IllegalArgumentException("Frames per second cannot be negative.");
+    }
     this.tickRate = speed;
     this.slowMoTempo = 0;
-    int delay = 1000 / speed;
+    this.fps = fps;
+    this.playedTick = 0;
     this.features = new AnimationFeatures();
-    ActionListener taskPerformer = e -> {
+    this.scheduler = new PlaybackScheduler(model.getTimeline(speed), fps, tick -> {
       try {
-        view.updateTick();
-        checkSlowMo();
+        renderFrame(tick);
       } catch (IOException ioException) {
         ioException.printStackTrace();
       }
-    };
-    this.timer = new Timer(delay, taskPerformer);
+    });
   }
 
   /**
@@ -57,14 +78,24 @@ public class VisualController extends MVCController {
           tickRate = newSpeed;
           view.changeSpeed(newSpeed);
         }
-        timer.setDelay(1000 / tickRate);
+        scheduler.setTimeline(model.getTimeline(tickRate));
       }
     }
 
     @Override
     public void restartAnimation() {
       view.restart();
-      timer.restart();
+      playedTick = 0;
+      scheduler.seek(0);
+      scheduler.start();
+    }
+
+    @Override
+    public void seekToTick(int tick) {
+      view.seek(tick);
+      playedTick = view.getTick();
+      scheduler.seek(playedTick);
+      checkSlowMo();
     }
 
     @Override
@@ -74,13 +105,13 @@ public class VisualController extends MVCController {
 
     @Override
     public void resumeAnimation() {
-      timer.start();
+      scheduler.start();
       view.resume();
     }
 
     @Override
     public void pauseAnimation() {
-      timer.stop();
+      scheduler.stop();
       view.pause();
     }
 
@@ -104,27 +135,82 @@ public class VisualController extends MVCController {
   @Override
   public void animationGo() {
     super.animationGo();
+    // the tempos are final once the animation starts
+    scheduler.setTimeline(model.getTimeline(tickRate));
     try {
       view.addFeatures(features);
     } catch (UnsupportedOperationException e) {
-      timer.start();
+      scheduler.start();
     }
   }
 
+  /**
+   * Returns the number of frames that reached the view noticeably after they were due.
+   *
+   * @return the number of late frames
+   */
+  public long getLateFrames() {
+    return scheduler.getLateFrames();
+  }
+
+  /**
+   * Returns the number of frames that never reached the view because playback fell behind.
+   *
+   * @return the number of dropped frames
+   */
+  public long getDroppedFrames() {
+    return scheduler.getDroppedFrames();
+  }
+
   /**
    * Checks if there should be slow motion activated for the current tick. If there should be,
-   * changes the tick rate appropriately to the given tempo. If not, the most recent non-slowmo
-   * tick rate is restored.
+   * shows the given tempo as the tick rate. If not, the most recent non-slowmo tick rate is
+   * restored. The scheduler already plays the ticks of a tempo at its rate.
    */
   protected void checkSlowMo() {
     slowMoTempo = this.model.getTempo(this.view.getTick());
     if (slowMoTempo > 0) {
       view.changeSpeed(slowMoTempo);
-      timer.setDelay(1000 / slowMoTempo);
     } else {
       view.changeSpeed(tickRate);
-      timer.setDelay(1000 / tickRate);
     }
   }
-}
 
+  /**
+   * Renders the frame the scheduler hands over. The view is advanced one tick at a time up to the
+   * whole tick given, so that looping and discrete playback still see every tick, but only the
+   * last tick is rendered, so that falling behind skips the ticks in between instead of rendering
+   * each of them. At a set fps, the view is rendered between ticks for the rest. If the view loops
+   * back or jumps to a later tick on its own, as in discrete mode, playback continues from the
+   * view's new tick.
+   *
+   * @param tick represents the fractional tick the animation should be at
+   * @throws IOException if there is an error in rendering the view
+   */
+  private void renderFrame(double tick) throws IOException {
+    int wholeTick = (int) tick;
+    boolean advanced = false;
+    while (playedTick < wholeTick) {
+      int before = view.getTick();
+      view.advanceTick();
+      playedTick += 1;
+      advanced = true;
+      if (view.getTick() != before + 1) {
+        playedTick = view.getTick();
+        scheduler.seek(playedTick);
+        checkSlowMo();
+        view.render();
+        return;
+      }
+    }
+    if (advanced) {
+      // the tempo only shows for the tick rendered
+      checkSlowMo();
+    }
+    if (fps > 0) {
+      view.renderBetweenTicks(tick - wholeTick);
+    } else if (advanced) {
+      view.render();
+    }
+  }
+}
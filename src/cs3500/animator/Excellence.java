@@ -5,12 +5,18 @@ import controller.IController;
 import controller.NonVisualController;
 import controller.VisualController;
 import cs3500.animator.util.AnimationReader;
-import java.io.FileReader;
-import java.io.FileWriter;
+import cs3500.animator.util.OutputFiles;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.Deflater;
 import model.AnimationModel;
 import model.SimpleAnimationModel.Builder;
+import view.ActiveVisualAnimationView;
 import view.IAnimationView;
+import view.PNGAnimationView;
 import view.SVGAnimationView;
 import view.TextualAnimationView;
 import view.VisualAnimationView;
@@ -21,17 +27,27 @@ import view.InteractiveVisualAnimationView;
  * Allows the client to run either textul, visual, or svg animation.
  */
 public final class Excellence {
-  private static Readable in;
   private static Appendable out = System.out;
   private static IAnimationView view;
   private static int speed = 1;
+  private static int fps = 0;
+  private static int compression = Deflater.DEFAULT_COMPRESSION;
   private static AnimationModel model;
 
 
   /**
    * Main method that accepts various command line arguments specifying the input,
-   * ouput, speed, and view type for the animation, and runs the specified
-   * animation.
+   * ouput, speed, view type, and visual frame rate (-fps) for the animation, and runs the
+   * specified animation. The "visual-active" view type draws frames from its own render thread
+   * instead of through Swing repaints, the "svg-compact" view type writes a smaller SVG file by
+   * merging the animate tags of back to back motions, and the "png" view type writes a PNG image
+   * of every tick to the -out directory. An -out file named with a ".gz" or ".svgz" extension is
+   * compressed with gzip as it is written, with the level given by -compression, from 0 to 9.
+   * The -in file is read as UTF-8 text, unless "-parse mapped" is given, which reads it faster by
+   * memory-mapping it as ASCII, or "-parse parallel", which also reads it as ASCII, on every
+   * processor at once, splitting files of at least half a megabyte into parts that are read in
+   * parallel. Giving -verbose, which takes no value, reports how fast a mapped or parallel read
+   * was on the standard error stream.
    *
    * @param args represents the various command line arguments inputted for the animation
    * @throws IOException if the input file cannot be found, or if there is an error
@@ -39,20 +55,40 @@ public final class Excellence {
    */
   public static void main(String[] args) throws IOException {
     String viewString = "";
-    for (int ii = 0; ii < args.length - 1; ii += 2) {
+    String inString = null;
+    String parseString = "";
+    String outString = null;
+    boolean verbose = false;
+    for (int ii = 0; ii < args.length; ii += 1) {
       String cmd = args[ii];
-      String field = args[ii + 1];
+      if (cmd.equals("-verbose")) {
+        verbose = true;
+        continue;
+      }
+      if (ii + 1 == args.length) {
+        break;
+      }
+      ii += 1;
+      String field = args[ii];
       switch (cmd) {
         case "-in":
-          in = new FileReader(field);
-          model = AnimationReader.parseFile(in, new Builder());
+          inString = field;
+          break;
+        case "-parse":
+          parseString = field;
           break;
         case "-out":
-          out = new FileWriter(field);
+          outString = field;
           break;
         case "-speed":
           speed = Integer.parseInt(field);
           break;
+        case "-fps":
+          fps = Integer.parseInt(field);
+          break;
+        case "-compression":
+          compression = Integer.parseInt(field);
+          break;
         case "-view":
           viewString = field;
           break;
@@ -61,6 +97,16 @@ public final class Excellence {
       }
     }
 
+    if (inString != null) {
+      model = readModel(inString, parseString, verbose ? System.err : null);
+    }
+
+    // the png view writes a directory of frames, rather than a single file, and other files are
+    // buffered so the views' many small appends do not each reach the file system
+    if (outString != null && !viewString.equals("png")) {
+      out = OutputFiles.open(outString, compression);
+    }
+
     IController controller;
     switch (viewString) {
       case "text":
@@ -69,14 +115,28 @@ public final class Excellence {
         break;
       case "visual":
         view = new VisualAnimationView(model, speed);
-        controller = new VisualController(model, view, speed);
+        controller = new VisualController(model, view, speed, fps);
+        break;
+      case "visual-active":
+        view = new ActiveVisualAnimationView(model, speed);
+        controller = new VisualController(model, view, speed, fps);
         break;
       case "interactive":
         view = new InteractiveVisualAnimationView(model, speed);
-        controller = new VisualController(model, view, speed);
+        controller = new VisualController(model, view, speed, fps);
         break;
       case "svg":
-        view = new SVGAnimationView(model, speed, out);
+        view = new SVGAnimationView(model, speed, out,
+            Runtime.getRuntime().availableProcessors());
+        controller = new NonVisualController(model, view, speed);
+        break;
+      case "svg-compact":
+        view = new SVGAnimationView(model, speed, out,
+            Runtime.getRuntime().availableProcessors(), true);
+        controller = new NonVisualController(model, view, speed);
+        break;
+      case "png":
+        view = new PNGAnimationView(model, speed, Paths.get(outString == null ? "." : outString));
         controller = new NonVisualController(model, view, speed);
         break;
       default:
@@ -85,8 +145,36 @@ public final class Excellence {
 
     controller.animationGo();
 
-    if (out instanceof FileWriter) {
-      ((FileWriter) out).close();
+    if (out instanceof Writer) {
+      ((Writer) out).close();
+    }
+  }
+
+  /**
+   * Reads the animation in the given file, in the given way.
+   *
+   * @param fileName represents the name of the animation file
+   * @param parseString represents how to read the file: "mapped" to memory-map it, "parallel" to
+   *      read parts of it on every processor at once, or empty to read it as UTF-8 text
+   * @param report represents where to report the throughput of a mapped or parallel read, or null
+   *      to not report it
+   * @return the animation model read from the file
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the way to read the file is not recognized
+   */
+  private static AnimationModel readModel(String fileName, String parseString,
+      Appendable report) throws IOException {
+    switch (parseString) {
+      case "":
+        try (Reader in = Files.newBufferedReader(Paths.get(fileName))) {
+          return AnimationReader.parseFile(in, new Builder(true));
+        }
+      case "mapped":
+        return AnimationReader.parseFile(Paths.get(fileName), new Builder(true), report);
+      case "parallel":
+        return AnimationReader.parseFileParallel(Paths.get(fileName), new Builder(true), report);
+      default:
+        throw new IllegalArgumentException("unrecognized parse mode.");
     }
   }
 }
@@ -1,13 +1,35 @@
 package cs3500.animator.util;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
-import java.util.Scanner;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * A helper to read animation data and construct an animation from it.
  */
 public class AnimationReader {
+  // the smallest part of a file worth parsing on its own thread
+  private static final long MIN_CHUNK_SIZE = 256 * 1024;
+  private static final String[] KEYWORDS = {"canvas", "shape", "motion", "tempo"};
+  private static final String[] MOTION_FIELD_NAMES = new String[]{
+    "initial time",
+    "initial x-coordinate", "initial y-coordinate",
+    "initial width", "initial height",
+    "initial red value", "initial green value", "initial blue value",
+    "final time",
+    "final x-coordinate", "final y-coordinate",
+    "final width", "final height",
+    "final red value", "final green value", "final blue value",
+  };
+
   /**
    * A factory for producing new animations, given a source of shapes and a
    * builder for constructing animations.
@@ -35,9 +57,251 @@ public class AnimationReader {
   public static <Doc> Doc parseFile(Readable readable, AnimationBuilder<Doc> builder) {
     Objects.requireNonNull(readable, "Must have non-null readable source");
     Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
-    Scanner s = new Scanner(readable);
     // Split at whitespace, and ignore # comment lines
-    s.useDelimiter(Pattern.compile("(\\p{Space}+|#.*)+")); 
+    return parse(AnimationTokenizer.of(readable), builder);
+  }
+
+  /**
+   * Reads the animation file at the given path, in the same format as
+   * {@link #parseFile(Readable, AnimationBuilder)}, by memory-mapping the file and tokenizing its
+   * bytes in place rather than decoding them through a Reader. Meant for very large generated
+   * animations; the file is read as ASCII, one byte per character.
+   *
+   * @param path    The animation file
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation built by the builder
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static <Doc> Doc parseFile(Path path, AnimationBuilder<Doc> builder)
+      throws IOException {
+    return parseFile(path, builder, null);
+  }
+
+  /**
+   * Reads the animation file at the given path by memory-mapping it, as
+   * {@link #parseFile(Path, AnimationBuilder)} does, and appends a line reporting the size of the
+   * file and the throughput of reading it and building the animation, in MB/s, to the given
+   * report.
+   *
+   * @param path    The animation file
+   * @param builder A builder for helping to construct a new animation
+   * @param report  Where to append the throughput line, or null to not report it
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation built by the builder
+   * @throws IOException if the file cannot be opened or mapped, or the report cannot be appended
+   */
+  public static <Doc> Doc parseFile(Path path, AnimationBuilder<Doc> builder, Appendable report)
+      throws IOException {
+    Objects.requireNonNull(path, "Must have non-null file path");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long startTime = System.nanoTime();
+      Doc doc = parse(AnimationTokenizer.of(channel), builder);
+      report(report, channel.size(), startTime);
+      return doc;
+    }
+  }
+
+  /**
+   * Reads the animation file at the given path, in the same format as
+   * {@link #parseFile(Readable, AnimationBuilder)}, by splitting it at the start of command lines
+   * and tokenizing the parts in parallel on the common {@link ForkJoinPool}. The calls each part
+   * makes are recorded and then replayed into the given builder in their original order, so the
+   * builder sees exactly the calls a sequential read would make. If a part fails to parse, the
+   * file is read sequentially from the start of that part, so errors are reported the same way.
+   *
+   * @param path    The animation file
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation built by the builder
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static <Doc> Doc parseFileParallel(Path path, AnimationBuilder<Doc> builder)
+      throws IOException {
+    return parseFileParallel(path, builder, null);
+  }
+
+  /**
+   * Reads the animation file at the given path in parallel, as
+   * {@link #parseFileParallel(Path, AnimationBuilder)} does, and appends a line reporting the
+   * size of the file and the throughput of reading it and building the animation, in MB/s, to
+   * the given report.
+   *
+   * @param path    The animation file
+   * @param builder A builder for helping to construct a new animation
+   * @param report  Where to append the throughput line, or null to not report it
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation built by the builder
+   * @throws IOException if the file cannot be opened or mapped, or the report cannot be appended
+   */
+  public static <Doc> Doc parseFileParallel(Path path, AnimationBuilder<Doc> builder,
+      Appendable report) throws IOException {
+    Objects.requireNonNull(path, "Must have non-null file path");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long startTime = System.nanoTime();
+      Doc doc = parseParallel(channel, builder);
+      report(report, channel.size(), startTime);
+      return doc;
+    }
+  }
+
+  /**
+   * Splits the open animation file into parts, parses them in parallel and replays their calls
+   * into the given builder.
+   *
+   * @param channel The open channel of the animation file
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation built by the builder
+   * @throws IOException if the file cannot be read
+   */
+  private static <Doc> Doc parseParallel(FileChannel channel, AnimationBuilder<Doc> builder)
+      throws IOException {
+    long size = channel.size();
+    int parts = (int) Math.max(1, Math.min(size / MIN_CHUNK_SIZE,
+        4L * ForkJoinPool.getCommonPoolParallelism()));
+
+    // split the file where a command starts a line, so no command spans two parts
+    List<Long> starts = new ArrayList<>();
+    starts.add(0L);
+    for (int ii = 1; ii < parts; ii += 1) {
+      long start = findCommandStart(channel, Math.max(size * ii / parts,
+          starts.get(starts.size() - 1) + 1), size);
+      if (start < size) {
+        starts.add(start);
+      }
+    }
+    starts.add(size);
+
+    List<ForkJoinTask<AnimationRecorder>> tasks = new ArrayList<>();
+    for (int ii = 0; ii < starts.size() - 1; ii += 1) {
+      long start = starts.get(ii);
+      long end = starts.get(ii + 1);
+      tasks.add(ForkJoinPool.commonPool().submit(() -> parseChunk(channel, start, end)));
+    }
+    try {
+      for (int ii = 0; ii < tasks.size(); ii += 1) {
+        AnimationRecorder recorder = tasks.get(ii).join();
+        if (recorder.hasFailed()) {
+          return parse(AnimationTokenizer.of(channel, starts.get(ii), size), builder);
+        }
+        recorder.replay(builder);
+      }
+    } finally {
+      for (ForkJoinTask<AnimationRecorder> task : tasks) {
+        task.cancel(false);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Appends a line reporting the size of a file read and the throughput of reading it, if there
+   * is a report to append it to.
+   *
+   * @param report    Where to append the throughput line, or null to not report it
+   * @param bytes     The size of the file read, in bytes
+   * @param startTime The {@link System#nanoTime()} at which the read started
+   * @throws IOException if the report cannot be appended
+   */
+  private static void report(Appendable report, long bytes, long startTime) throws IOException {
+    if (report == null) {
+      return;
+    }
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    double megabytes = bytes / (1024.0 * 1024.0);
+    report.append(String.format(Locale.ROOT, "Read %.2f MB in %.1f ms (%.1f MB/s)\n",
+        megabytes, seconds * 1000, megabytes / seconds));
+  }
+
+  /**
+   * Parses the given region of the file into a recorder.
+   *
+   * @param channel The open channel of the animation file
+   * @param start   The offset of the first byte of the region
+   * @param end     The offset just past the last byte of the region
+   * @return the recorder holding the calls made while parsing the region
+   */
+  private static AnimationRecorder parseChunk(FileChannel channel, long start, long end) {
+    AnimationRecorder recorder = new AnimationRecorder();
+    try {
+      parse(AnimationTokenizer.of(channel, start, end), recorder);
+    } catch (RuntimeException e) {
+      recorder.fail();
+    }
+    return recorder;
+  }
+
+  /**
+   * Finds the offset of the first line at or after the given offset that starts with a command
+   * keyword followed by whitespace.
+   *
+   * @param channel The open channel of the animation file
+   * @param from    The offset to start searching from
+   * @param size    The size of the file
+   * @return the offset of the start of the line, or size if there is no such line
+   * @throws IOException if the file cannot be read
+   */
+  private static long findCommandStart(FileChannel channel, long from, long size)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    long offset = from;
+    while (offset < size) {
+      buffer.clear();
+      int read = channel.read(buffer, offset);
+      if (read <= 0) {
+        break;
+      }
+      for (int ii = 0; ii < read; ii += 1) {
+        if (buffer.get(ii) != '\n') {
+          continue;
+        }
+        if (ii + 8 > read && offset + read < size) {
+          // the keyword may be cut off by the end of the buffer, so read again from here
+          read = ii;
+          break;
+        }
+        if (startsWithKeyword(buffer, ii + 1, read)) {
+          return offset + ii + 1;
+        }
+      }
+      offset += Math.max(read, 1);
+    }
+    return size;
+  }
+
+  /**
+   * Returns true if the given bytes start with a command keyword followed by whitespace.
+   */
+  private static boolean startsWithKeyword(ByteBuffer buffer, int index, int limit) {
+    for (String keyword : KEYWORDS) {
+      int end = index + keyword.length();
+      if (end >= limit) {
+        continue;
+      }
+      boolean matches = true;
+      for (int ii = 0; ii < keyword.length() && matches; ii += 1) {
+        matches = buffer.get(index + ii) == keyword.charAt(ii);
+      }
+      byte after = buffer.get(end);
+      if (matches && (after == ' ' || after == '\t')) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reads every line of animation input from the given tokenizer into the given builder.
+   *
+   * @param s       The tokenizer over the animation input
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation built by the builder
+   */
+  private static <Doc> Doc parse(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     while (s.hasNext()) {
       String word = s.next();
       switch (word) {
@@ -60,7 +324,7 @@ public class AnimationReader {
     return builder.build();
   }
 
-  private static <Doc> void readCanvas(Scanner s, AnimationBuilder<Doc> builder) {
+  private static <Doc> void readCanvas(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     int[] vals = new int[4];
     String[] fieldNames = {"left", "top", "width", "height"};
     for (int i = 0; i < 4; i++) {
@@ -72,11 +336,11 @@ public class AnimationReader {
   /**
    * Reads in tempo specifications and build onto a document.
    *
-   * @param s represents the Scanner object used for reading
+   * @param s represents the tokenizer used for reading
    * @param builder represents the animation builder using the tempo specifications
    * @param <Doc> represents the document being built upon
    */
-  private static <Doc> void readTempo(Scanner s, AnimationBuilder<Doc> builder) {
+  private static <Doc> void readTempo(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     int[] vals = new int[3];
     String[] fieldNames = {"start", "end", "speed"};
     for (int i = 0; i < 3; i++) {
@@ -85,7 +349,7 @@ public class AnimationReader {
     builder.addTempo(vals[0], vals[1], vals[2]);
   }
 
-  private static <Doc> void readShape(Scanner s, AnimationBuilder<Doc> builder) {
+  private static <Doc> void readShape(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     String name;
     String type;
     if (s.hasNext()) {
@@ -101,17 +365,7 @@ public class AnimationReader {
     builder.declareShape(name, type);
   }
 
-  private static <Doc> void readMotion(Scanner s, AnimationBuilder<Doc> builder) {
-    String[] fieldNames = new String[]{
-      "initial time",
-      "initial x-coordinate", "initial y-coordinate",
-      "initial width", "initial height",
-      "initial red value", "initial green value", "initial blue value",
-      "final time",
-      "final x-coordinate", "final y-coordinate",
-      "final width", "final height",
-      "final red value", "final green value", "final blue value",
-    };
+  private static <Doc> void readMotion(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     int[] vals = new int[16];
     String name;
     if (s.hasNext()) {
@@ -120,14 +374,14 @@ public class AnimationReader {
       throw new IllegalStateException("Motion: Expected a shape name, but no more input available");
     }
     for (int i = 0; i < 16; i++) {
-      vals[i] = getInt(s, "Motion", fieldNames[i]);
+      vals[i] = getInt(s, "Motion", MOTION_FIELD_NAMES[i]);
     }
     builder.addMotion(name,
             vals[0], vals[1], vals[2 ], vals[3 ], vals[4 ], vals[5 ], vals[6 ], vals[7 ],
             vals[8], vals[9], vals[10], vals[11], vals[12], vals[13], vals[14], vals[15]);
   }
   
-  private static int getInt(Scanner s, String label, String fieldName) {
+  private static int getInt(AnimationTokenizer s, String label, String fieldName) {
     if (s.hasNextInt()) {
       return s.nextInt();
     } else if (s.hasNext()) {
@@ -0,0 +1,172 @@
+package cs3500.animator.util;
+
+/**
+ * An animation builder that records every call made to it in compact primitive arrays, so that
+ * a part of an animation file can be parsed on its own and its calls replayed in order into the
+ * real builder later. Building a recorder produces nothing.
+ */
+final class AnimationRecorder implements AnimationBuilder<Void> {
+  private static final byte BOUNDS = 0;
+  private static final byte SHAPE = 1;
+  private static final byte MOTION = 2;
+  private static final byte TEMPO = 3;
+
+  // the kind of each recorded call, in order
+  private byte[] calls;
+  private int callCount;
+  // the integer arguments of every recorded call, in order
+  private int[] ints;
+  private int intCount;
+  // the string arguments of every recorded call, in order
+  private String[] strings;
+  private int stringCount;
+  // whether parsing this part of the file stopped with an error
+  private boolean failed;
+
+  /**
+   * Constructs an empty recorder.
+   */
+  AnimationRecorder() {
+    this.calls = new byte[64];
+    this.ints = new int[1024];
+    this.strings = new String[128];
+    this.failed = false;
+  }
+
+  @Override
+  public Void build() {
+    return null;
+  }
+
+  @Override
+  public AnimationBuilder<Void> setBounds(int x, int y, int width, int height) {
+    addCall(BOUNDS);
+    addInts(4);
+    ints[intCount++] = x;
+    ints[intCount++] = y;
+    ints[intCount++] = width;
+    ints[intCount++] = height;
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<Void> declareShape(String name, String type) {
+    addCall(SHAPE);
+    addString(name);
+    addString(type);
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<Void> addMotion(String name, int t1, int x1, int y1, int w1, int h1,
+      int r1, int g1, int b1, int t2, int x2, int y2, int w2, int h2, int r2, int g2, int b2) {
+    addCall(MOTION);
+    addString(name);
+    addInts(16);
+    ints[intCount++] = t1;
+    ints[intCount++] = x1;
+    ints[intCount++] = y1;
+    ints[intCount++] = w1;
+    ints[intCount++] = h1;
+    ints[intCount++] = r1;
+    ints[intCount++] = g1;
+    ints[intCount++] = b1;
+    ints[intCount++] = t2;
+    ints[intCount++] = x2;
+    ints[intCount++] = y2;
+    ints[intCount++] = w2;
+    ints[intCount++] = h2;
+    ints[intCount++] = r2;
+    ints[intCount++] = g2;
+    ints[intCount++] = b2;
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<Void> addTempo(int start, int end, int speed) {
+    addCall(TEMPO);
+    addInts(3);
+    ints[intCount++] = start;
+    ints[intCount++] = end;
+    ints[intCount++] = speed;
+    return this;
+  }
+
+  /**
+   * Marks that parsing this part of the file stopped with an error, so its calls are incomplete.
+   */
+  void fail() {
+    this.failed = true;
+  }
+
+  /**
+   * Returns true if parsing this part of the file stopped with an error.
+   * @return whether the recorded calls are incomplete
+   */
+  boolean hasFailed() {
+    return failed;
+  }
+
+  /**
+   * Makes every recorded call on the given builder, in the order they were recorded.
+   * @param builder the builder to replay the calls into
+   * @param <Doc> the main model interface type describing animations
+   */
+  <Doc> void replay(AnimationBuilder<Doc> builder) {
+    int i = 0;
+    int s = 0;
+    for (int call = 0; call < callCount; call += 1) {
+      switch (calls[call]) {
+        case BOUNDS:
+          builder.setBounds(ints[i], ints[i + 1], ints[i + 2], ints[i + 3]);
+          i += 4;
+          break;
+        case SHAPE:
+          builder.declareShape(strings[s], strings[s + 1]);
+          s += 2;
+          break;
+        case MOTION:
+          builder.addMotion(strings[s],
+              ints[i], ints[i + 1], ints[i + 2], ints[i + 3],
+              ints[i + 4], ints[i + 5], ints[i + 6], ints[i + 7],
+              ints[i + 8], ints[i + 9], ints[i + 10], ints[i + 11],
+              ints[i + 12], ints[i + 13], ints[i + 14], ints[i + 15]);
+          s += 1;
+          i += 16;
+          break;
+        case TEMPO:
+          builder.addTempo(ints[i], ints[i + 1], ints[i + 2]);
+          i += 3;
+          break;
+        default:
+          throw new IllegalStateException("Unknown recorded call.");
+      }
+    }
+  }
+
+  private void addCall(byte call) {
+    if (callCount == calls.length) {
+      byte[] larger = new byte[calls.length * 2];
+      System.arraycopy(calls, 0, larger, 0, callCount);
+      calls = larger;
+    }
+    calls[callCount++] = call;
+  }
+
+  private void addInts(int count) {
+    if (intCount + count > ints.length) {
+      int[] larger = new int[Math.max(ints.length * 2, intCount + count)];
+      System.arraycopy(ints, 0, larger, 0, intCount);
+      ints = larger;
+    }
+  }
+
+  private void addString(String string) {
+    if (stringCount == strings.length) {
+      String[] larger = new String[strings.length * 2];
+      System.arraycopy(strings, 0, larger, 0, stringCount);
+      strings = larger;
+    }
+    strings[stringCount++] = string;
+  }
+}
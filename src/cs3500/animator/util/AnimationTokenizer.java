@@ -0,0 +1,368 @@
+package cs3500.animator.util;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits animation input into whitespace-separated tokens, ignoring everything from a '#' to the
+ * end of its line, the same way a {@link java.util.Scanner} with the delimiter
+ * {@code (\p{Space}+|#.*)+} does. Integers are parsed directly from the characters of a token,
+ * so reading numbers does not create a String per token. Subclasses supply the characters, one
+ * buffered window of the input at a time.
+ */
+abstract class AnimationTokenizer {
+  // the index of the next character in the current window, and the end of the window
+  protected int position;
+  protected int limit;
+  private boolean exhausted;
+
+  // the characters of the token that has been read ahead but not yet consumed
+  private char[] token;
+  private int tokenLength;
+  private boolean hasToken;
+  // recently returned tokens, indexed by hash, so repeated keywords and shape names are reused
+  private final String[] recentTokens;
+
+  /**
+   * Constructs a tokenizer with an empty window, to be filled on the first read.
+   */
+  AnimationTokenizer() {
+    this.position = 0;
+    this.limit = 0;
+    this.exhausted = false;
+    this.token = new char[64];
+    this.tokenLength = 0;
+    this.hasToken = false;
+    this.recentTokens = new String[256];
+  }
+
+  /**
+   * Constructs a tokenizer reading characters from the given source.
+   * @param source the source of the animation input
+   * @return a tokenizer over the source
+   */
+  static AnimationTokenizer of(Readable source) {
+    return new ReadableTokenizer(source);
+  }
+
+  /**
+   * Constructs a tokenizer that memory-maps the given file and reads its bytes in place, one
+   * byte per character.
+   * @param channel the open channel of the animation file
+   * @return a tokenizer over the file
+   */
+  static AnimationTokenizer of(FileChannel channel) {
+    return new MappedFileTokenizer(channel, 0, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructs a tokenizer that memory-maps the given region of the file and reads its bytes in
+   * place, one byte per character.
+   * @param channel the open channel of the animation file
+   * @param start the offset in the file of the first byte to read
+   * @param end the offset in the file just past the last byte to read
+   * @return a tokenizer over the region of the file
+   */
+  static AnimationTokenizer of(FileChannel channel, long start, long end) {
+    return new MappedFileTokenizer(channel, start, end);
+  }
+
+  /**
+   * Returns true if there is another token in the input.
+   * @return whether there is another token
+   */
+  boolean hasNext() {
+    return readAhead();
+  }
+
+  /**
+   * Returns the next token in the input.
+   * @return the next token
+   * @throws NoSuchElementException if there are no more tokens
+   */
+  String next() {
+    if (!readAhead()) {
+      throw new NoSuchElementException();
+    }
+    hasToken = false;
+    int hash = 0;
+    for (int ii = 0; ii < tokenLength; ii += 1) {
+      hash = 31 * hash + token[ii];
+    }
+    int slot = (hash ^ (hash >>> 8)) & (recentTokens.length - 1);
+    String recent = recentTokens[slot];
+    if (recent != null && matchesToken(recent)) {
+      return recent;
+    }
+    String next = new String(token, 0, tokenLength);
+    recentTokens[slot] = next;
+    return next;
+  }
+
+  /**
+   * Returns true if the given string has the same characters as the current token.
+   */
+  private boolean matchesToken(String s) {
+    if (s.length() != tokenLength) {
+      return false;
+    }
+    for (int ii = 0; ii < tokenLength; ii += 1) {
+      if (s.charAt(ii) != token[ii]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the next token in the input is an integer, i.e. an optional sign followed by
+   * decimal digits that fit in an int.
+   * @return whether the next token is an integer
+   */
+  boolean hasNextInt() {
+    if (!readAhead()) {
+      return false;
+    }
+    int index = 0;
+    if (token[0] == '-' || token[0] == '+') {
+      index = 1;
+    }
+    if (index == tokenLength || tokenLength - index > 10) {
+      return false;
+    }
+    for (int ii = index; ii < tokenLength; ii += 1) {
+      if (token[ii] < '0' || token[ii] > '9') {
+        return false;
+      }
+    }
+    long value = parseToken();
+    return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+  }
+
+  /**
+   * Returns the next token in the input as an integer.
+   * @return the next token as an int
+   * @throws IllegalStateException if the next token is not an integer
+   */
+  int nextInt() {
+    if (!hasNextInt()) {
+      throw new IllegalStateException("Expected an integer.");
+    }
+    hasToken = false;
+    return (int) parseToken();
+  }
+
+  /**
+   * Returns the rest of the current line, after the last token read.
+   * @return the rest of the current line
+   */
+  String nextLine() {
+    StringBuilder line = new StringBuilder();
+    if (hasToken) {
+      line.append(token, 0, tokenLength);
+      hasToken = false;
+    }
+    int c = peek();
+    while (c >= 0 && !isLineEnd(c)) {
+      line.append((char) c);
+      position += 1;
+      c = peek();
+    }
+    return line.toString();
+  }
+
+  /**
+   * Parses the digits of the current token, which must already be checked to be an integer.
+   * @return the value of the current token
+   */
+  private long parseToken() {
+    int index = 0;
+    boolean negative = token[0] == '-';
+    if (negative || token[0] == '+') {
+      index = 1;
+    }
+    long value = 0;
+    for (; index < tokenLength; index += 1) {
+      value = value * 10 + (token[index] - '0');
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Reads the next token into the token buffer, skipping whitespace and comments, unless a token
+   * has already been read ahead.
+   * @return true if there is a token in the token buffer, false if the input is exhausted
+   */
+  private boolean readAhead() {
+    if (hasToken) {
+      return true;
+    }
+    int c = peek();
+    while (c >= 0 && (isSpace(c) || c == '#')) {
+      if (c == '#') {
+        // skip the comment up to the end of its line
+        while (c >= 0 && !isLineEnd(c)) {
+          position += 1;
+          c = peek();
+        }
+      } else {
+        position += 1;
+        c = peek();
+      }
+    }
+    if (c < 0) {
+      return false;
+    }
+    tokenLength = 0;
+    while (c >= 0 && c != '#' && !isSpace(c)) {
+      if (tokenLength == token.length) {
+        char[] larger = new char[token.length * 2];
+        System.arraycopy(token, 0, larger, 0, tokenLength);
+        token = larger;
+      }
+      token[tokenLength] = (char) c;
+      tokenLength += 1;
+      position += 1;
+      c = peek();
+    }
+    hasToken = true;
+    return true;
+  }
+
+  /**
+   * Returns the next character of the input without consuming it, refilling the window when it
+   * runs out.
+   * @return the next character, or -1 if the input is exhausted
+   */
+  private int peek() {
+    if (position < limit) {
+      return charAt(position);
+    }
+    if (exhausted) {
+      return -1;
+    }
+    if (!refill()) {
+      exhausted = true;
+      return -1;
+    }
+    return charAt(position);
+  }
+
+  /**
+   * Returns the character at the given index of the current window.
+   * @param index the index in the current window, less than limit
+   * @return the character at the index
+   */
+  protected abstract char charAt(int index);
+
+  /**
+   * Replaces the current window with the next non-empty window of the input, resetting position
+   * to 0 and limit to the length of the new window.
+   * @return false if there is no more input
+   * @throws IllegalStateException if reading the input fails
+   */
+  protected abstract boolean refill();
+
+  /**
+   * Returns true if the given character is whitespace as matched by \p{Space}.
+   */
+  private static boolean isSpace(int c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  /**
+   * Returns true if the given character ends a line.
+   */
+  private static boolean isLineEnd(int c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  /**
+   * A tokenizer over any {@link Readable}, read through a reusable character buffer.
+   */
+  private static final class ReadableTokenizer extends AnimationTokenizer {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Readable source;
+    private final CharBuffer buffer;
+    private final char[] chars;
+
+    private ReadableTokenizer(Readable source) {
+      this.source = source;
+      this.chars = new char[BUFFER_SIZE];
+      this.buffer = CharBuffer.wrap(chars);
+    }
+
+    @Override
+    protected char charAt(int index) {
+      return chars[index];
+    }
+
+    @Override
+    protected boolean refill() {
+      try {
+        int read;
+        do {
+          buffer.clear();
+          read = source.read(buffer);
+        } while (read == 0);
+        if (read < 0) {
+          return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+      } catch (IOException e) {
+        throw new IllegalStateException("Error reading animation input.", e);
+      }
+    }
+  }
+
+  /**
+   * A tokenizer over a region of a file, memory-mapped one large window at a time so that
+   * regions bigger than a single mapping can still be read.
+   */
+  private static final class MappedFileTokenizer extends AnimationTokenizer {
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long end;
+    private MappedByteBuffer window;
+    // the offset in the file of the start of the current window
+    private long windowStart;
+
+    private MappedFileTokenizer(FileChannel channel, long start, long end) {
+      this.channel = channel;
+      this.end = end;
+      this.window = null;
+      this.windowStart = start;
+    }
+
+    @Override
+    protected char charAt(int index) {
+      return (char) (window.get(index) & 0xFF);
+    }
+
+    @Override
+    protected boolean refill() {
+      try {
+        long nextStart = windowStart + limit;
+        long size = Math.min(end, channel.size());
+        if (nextStart >= size) {
+          return false;
+        }
+        long length = Math.min(WINDOW_SIZE, size - nextStart);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, nextStart, length);
+        windowStart = nextStart;
+        position = 0;
+        limit = (int) length;
+        return true;
+      } catch (IOException e) {
+        throw new IllegalStateException("Error reading animation input.", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package cs3500.animator.util;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Opens the files that the text based views write their output to. Files named with a ".gz" or
+ * ".svgz" extension are compressed with gzip as they are written, so a large animation never has
+ * to be written out in full and compressed afterwards.
+ */
+public final class OutputFiles {
+  // the size of the buffers between the views and the file, compressed or not
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Prevents this utility class from being constructed.
+   */
+  private OutputFiles() {
+  }
+
+  /**
+   * Determines if output to the file with the given name is compressed.
+   * @param fileName the name of the file.
+   * @return true if the name ends with ".gz" or ".svgz", ignoring case; false if otherwise.
+   * @throws IllegalArgumentException if fileName is null
+   */
+  public static boolean isCompressed(String fileName) {
+    if (fileName == null) {
+      throw new IllegalArgumentException("File name cannot be null.");
+    }
+    String lower = fileName.toLowerCase(Locale.ROOT);
+    return lower.endsWith(".gz") || lower.endsWith(".svgz");
+  }
+
+  /**
+   * Opens a buffered writer onto the file with the given name, compressing what is written with
+   * the default compression level if the file is named as compressed. The writer must be closed
+   * for the file to be complete.
+   * @param fileName the name of the file to write.
+   * @return the writer onto the file.
+   * @throws IOException if the file cannot be opened for writing.
+   * @throws IllegalArgumentException if fileName is null
+   */
+  public static Writer open(String fileName) throws IOException {
+    return open(fileName, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Opens a buffered writer onto the file with the given name, compressing what is written with
+   * the given compression level if the file is named as compressed. The writer must be closed
+   * for the file to be complete.
+   * @param fileName the name of the file to write.
+   * @param level the compression level, from 0 for none to 9 for the smallest file, or -1 for
+   *      the default level.
+   * @return the writer onto the file.
+   * @throws IOException if the file cannot be opened for writing.
+   * @throws IllegalArgumentException if fileName is null or the level is not between -1 and 9
+   */
+  public static Writer open(String fileName, int level) throws IOException {
+    if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Compression level must be between -1 and 9.");
+    }
+    if (!isCompressed(fileName)) {
+      return new BufferedWriter(new FileWriter(fileName), BUFFER_SIZE);
+    }
+    OutputStream file = new FileOutputStream(fileName);
+    try {
+      return new BufferedWriter(new OutputStreamWriter(
+          new LeveledGZIPOutputStream(file, level), Charset.defaultCharset()), BUFFER_SIZE);
+    } catch (IOException e) {
+      file.close();
+      throw e;
+    }
+  }
+
+  /**
+   * A gzip stream that compresses with a given level, which GZIPOutputStream has no constructor
+   * for.
+   */
+  private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+    private LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+      super(out, BUFFER_SIZE);
+      def.setLevel(level);
+    }
+  }
+}
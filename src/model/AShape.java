@@ -17,6 +17,10 @@ public abstract class AShape implements Shape {
   protected double width;
   protected double height;
   protected boolean fill;
+  // true if x, y, width, or height changed since the visualization was last updated
+  protected boolean geometryChanged = true;
+  // the color of this shape as a Color object, or null if r, g, or b changed since it was made
+  private Color color;
 
   /**
    * Constructor to create an AShape with the given name, and the setting the rest of the fields
@@ -87,9 +91,12 @@ public abstract class AShape implements Shape {
       throw new IllegalArgumentException("Color change out of bounds.");
     }
 
-    this.r = r;
-    this.g = g;
-    this.b = b;
+    if (this.r != r || this.g != g || this.b != b) {
+      this.r = r;
+      this.g = g;
+      this.b = b;
+      this.color = null;
+    }
   }
 
   /**
@@ -108,8 +115,11 @@ public abstract class AShape implements Shape {
           + " negative dimensions.");
     }
 
-    this.width = w;
-    this.height = h;
+    if (this.width != w || this.height != h) {
+      this.width = w;
+      this.height = h;
+      this.geometryChanged = true;
+    }
   }
 
   /**
@@ -119,7 +129,10 @@ public abstract class AShape implements Shape {
    */
   @Override
   public void setX(double x) {
-    this.x = x;
+    if (this.x != x) {
+      this.x = x;
+      this.geometryChanged = true;
+    }
   }
 
   /**
@@ -129,7 +142,10 @@ public abstract class AShape implements Shape {
    */
   @Override
   public void setY(double y) {
-    this.y = y;
+    if (this.y != y) {
+      this.y = y;
+      this.geometryChanged = true;
+    }
   }
 
   /**
@@ -138,7 +154,10 @@ public abstract class AShape implements Shape {
    */
   @Override
   public Color getColor() {
-    return new Color(r, g, b);
+    if (this.color == null) {
+      this.color = new Color(r, g, b);
+    }
+    return this.color;
   }
 
   /**
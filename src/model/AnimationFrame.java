@@ -0,0 +1,228 @@
+package model;
+
+import java.util.BitSet;
+
+/**
+ * Represents the state of every shape in an animation at a single tick, stored as parallel
+ * primitive arrays indexed by the order the shapes were inputted. A frame is meant to be reused
+ * from tick to tick, so filling it with a new tick's state does not allocate any objects.
+ */
+public final class AnimationFrame {
+  private int tick;
+  private double time;
+  private int size;
+  private double[] xs;
+  private double[] ys;
+  private double[] widths;
+  private double[] heights;
+  // colors packed as 0xRRGGBB
+  private int[] colors;
+  private final BitSet visible;
+  // the frame the state at the next whole tick is filled into, to blend toward between ticks,
+  // made the first time it is needed
+  private AnimationFrame following;
+
+  /**
+   * Constructs an empty frame with room for the given number of shapes.
+   * @param size the number of shapes this frame holds the state of.
+   * @throws IllegalArgumentException if size is negative
+   */
+  public AnimationFrame(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Frame cannot hold a negative number of shapes.");
+    }
+    this.visible = new BitSet(size);
+    this.resize(size);
+  }
+
+  /**
+   * Resizes this frame to hold the given number of shapes, only reallocating its arrays if they
+   * are too small. All shapes are marked as not visible.
+   * @param newSize the number of shapes this frame holds the state of.
+   */
+  void resize(int newSize) {
+    if (xs == null || xs.length < newSize) {
+      xs = new double[newSize];
+      ys = new double[newSize];
+      widths = new double[newSize];
+      heights = new double[newSize];
+      colors = new int[newSize];
+    }
+    this.size = newSize;
+    this.visible.clear();
+  }
+
+  /**
+   * Sets the tick this frame represents.
+   * @param tick the tick of this frame.
+   */
+  void setTick(int tick) {
+    this.tick = tick;
+    this.time = tick;
+  }
+
+  /**
+   * Sets the fractional tick this frame represents, which is at or after its whole tick.
+   * @param time the fractional tick of this frame.
+   */
+  void setTime(double time) {
+    this.time = time;
+  }
+
+  /**
+   * Gets this frame's own frame for filling with the state at the next whole tick, which it is
+   * blended toward when it represents a time between ticks.
+   * @return the frame following this one.
+   */
+  AnimationFrame following() {
+    if (following == null) {
+      following = new AnimationFrame(size);
+    }
+    return following;
+  }
+
+  /**
+   * Moves the state of every shape visible in both this frame and the given frame the given
+   * fraction of the way toward its state in the given frame. Colors are rounded to the nearest
+   * whole value.
+   * @param next the frame holding the state to blend toward.
+   * @param fraction how far to blend, from 0 for none of the way to 1 for all of it.
+   */
+  void blend(AnimationFrame next, double fraction) {
+    for (int ii = visible.nextSetBit(0); ii >= 0 && ii < next.size;
+        ii = visible.nextSetBit(ii + 1)) {
+      if (!next.visible.get(ii)) {
+        continue;
+      }
+      xs[ii] += (next.xs[ii] - xs[ii]) * fraction;
+      ys[ii] += (next.ys[ii] - ys[ii]) * fraction;
+      widths[ii] += (next.widths[ii] - widths[ii]) * fraction;
+      heights[ii] += (next.heights[ii] - heights[ii]) * fraction;
+      colors[ii] = (blend(colors[ii], next.colors[ii], 16, fraction) << 16)
+          | (blend(colors[ii], next.colors[ii], 8, fraction) << 8)
+          | blend(colors[ii], next.colors[ii], 0, fraction);
+    }
+  }
+
+  /**
+   * Blends one component of two packed colors.
+   * @param from the packed color to blend from.
+   * @param to the packed color to blend toward.
+   * @param shift the position of the component in the packed colors.
+   * @param fraction how far to blend, from 0 to 1.
+   * @return the blended component, from 0 to 255.
+   */
+  private static int blend(int from, int to, int shift, double fraction) {
+    int start = (from >> shift) & 0xFF;
+    int end = (to >> shift) & 0xFF;
+    return start + (int) Math.round((end - start) * fraction);
+  }
+
+  /**
+   * Sets the state of the shape at the given index in this frame, and marks it visible.
+   * @param index the index of the shape, in the order shapes were inputted.
+   * @param x the x position of the shape.
+   * @param y the y position of the shape.
+   * @param w the width of the shape.
+   * @param h the height of the shape.
+   * @param r the amount of red in the shape.
+   * @param g the amount of green in the shape.
+   * @param b the amount of blue in the shape.
+   */
+  void set(int index, double x, double y, double w, double h, int r, int g, int b) {
+    xs[index] = x;
+    ys[index] = y;
+    widths[index] = w;
+    heights[index] = h;
+    colors[index] = (r << 16) | (g << 8) | b;
+    visible.set(index);
+  }
+
+  /**
+   * Marks the shape at the given index as not visible in this frame.
+   * @param index the index of the shape, in the order shapes were inputted.
+   */
+  void hide(int index) {
+    visible.clear(index);
+  }
+
+  /**
+   * Gets the tick this frame represents.
+   * @return the tick of this frame.
+   */
+  public int getTick() {
+    return tick;
+  }
+
+  /**
+   * Gets the fractional tick this frame represents, which is its tick unless it was filled
+   * between ticks.
+   * @return the fractional tick of this frame.
+   */
+  public double getTime() {
+    return time;
+  }
+
+  /**
+   * Gets the number of shapes this frame holds the state of.
+   * @return the number of shapes in this frame.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Determines whether the shape at the given index has a motion at or before this frame's tick,
+   * i.e. whether it is drawn in this frame.
+   * @param index the index of the shape, in the order shapes were inputted.
+   * @return true if the shape is visible in this frame, false otherwise.
+   */
+  public boolean isVisible(int index) {
+    return visible.get(index);
+  }
+
+  /**
+   * Gets the x position of the shape at the given index.
+   * @param index the index of the shape, in the order shapes were inputted.
+   * @return the x position of the shape in this frame.
+   */
+  public double getX(int index) {
+    return xs[index];
+  }
+
+  /**
+   * Gets the y position of the shape at the given index.
+   * @param index the index of the shape, in the order shapes were inputted.
+   * @return the y position of the shape in this frame.
+   */
+  public double getY(int index) {
+    return ys[index];
+  }
+
+  /**
+   * Gets the width of the shape at the given index.
+   * @param index the index of the shape, in the order shapes were inputted.
+   * @return the width of the shape in this frame.
+   */
+  public double getWidth(int index) {
+    return widths[index];
+  }
+
+  /**
+   * Gets the height of the shape at the given index.
+   * @param index the index of the shape, in the order shapes were inputted.
+   * @return the height of the shape in this frame.
+   */
+  public double getHeight(int index) {
+    return heights[index];
+  }
+
+  /**
+   * Gets the color of the shape at the given index, packed as 0xRRGGBB.
+   * @param index the index of the shape, in the order shapes were inputted.
+   * @return the packed color of the shape in this frame.
+   */
+  public int getRGB(int index) {
+    return colors[index];
+  }
+}
@@ -0,0 +1,111 @@
+package model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the overall timing of an animation: the first and last ticks any shape moves, and
+ * the span of ticks each shape moves over. A summary is computed once from the motions of an
+ * animation and never changes, so all of its answers take constant time.
+ */
+public final class AnimationSummary {
+  private final int firstTick;
+  private final int lastTick;
+  // whether some motion both starts and ends on the last tick, keeping that tick in the animation
+  private final boolean endsOnInstant;
+  private final Map<Shape, ITimeInterval> lifespans;
+
+  /**
+   * Constructs the summary of an animation with the given shapes and motions.
+   * @param shapes the shapes of the animation.
+   * @param motions the motions of each shape, sorted by start tick and not overlapping.
+   * @throws IllegalArgumentException if shapes or motions are null
+   */
+  AnimationSummary(List<Shape> shapes, Map<Shape, List<IMotion>> motions) {
+    if (shapes == null || motions == null) {
+      throw new IllegalArgumentException("Cannot summarize animation with null parameters.");
+    }
+    Map<Shape, ITimeInterval> spans = new HashMap<>();
+    int first = -1;
+    int last = 0;
+    for (Shape shape : shapes) {
+      List<IMotion> shapeMotions = motions.get(shape);
+      if (shapeMotions == null || shapeMotions.isEmpty()) {
+        continue;
+      }
+      // the motions of a shape never overlap, so its last motion to start is the last to end
+      int start = shapeMotions.get(0).getStartTick();
+      int end = shapeMotions.get(shapeMotions.size() - 1).getEndTick();
+      spans.put(shape, new Lifespan(start, end));
+      first = first == -1 ? start : Math.min(first, start);
+      last = Math.max(last, end);
+    }
+    boolean instant = false;
+    for (List<IMotion> shapeMotions : motions.values()) {
+      if (!shapeMotions.isEmpty()) {
+        IMotion lastMotion = shapeMotions.get(shapeMotions.size() - 1);
+        instant = instant
+            || (lastMotion.getStartTick() == last && lastMotion.getEndTick() == last);
+      }
+    }
+    this.firstTick = Math.max(first, 0);
+    this.lastTick = last;
+    this.endsOnInstant = instant;
+    this.lifespans = Collections.unmodifiableMap(spans);
+  }
+
+  /**
+   * Gets the first tick of the animation, i.e. the start tick of the motion that starts first.
+   * @return the first tick any shape moves, or 0 if there are no motions.
+   */
+  public int getFirstTick() {
+    return firstTick;
+  }
+
+  /**
+   * Gets the last tick of the animation, i.e. the end tick of the motion that ends last.
+   * @return the last tick any shape moves, or 0 if there are no motions.
+   */
+  public int getLastTick() {
+    return lastTick;
+  }
+
+  /**
+   * Gets the number of ticks from the first tick of the animation to its last.
+   * @return the duration of the animation in ticks.
+   */
+  public int getDuration() {
+    return lastTick - firstTick;
+  }
+
+  /**
+   * Gets the span of ticks the given shape moves over, from the start of its first motion to the
+   * end of its last.
+   * @param shape the shape to get the lifespan of.
+   * @return the lifespan of the shape, or null if the shape has no motions in the animation.
+   */
+  public ITimeInterval getLifespan(Shape shape) {
+    return lifespans.get(shape);
+  }
+
+  /**
+   * Determines if there are any motions occurring during or after the given tick, i.e. if the
+   * animation is over, the same way as {@link ITimeInterval#compareToTick(int)} for every motion.
+   * @param tick the tick value to check against.
+   * @return true if there are no motions during or after the given tick; false if otherwise.
+   */
+  public boolean isOver(int tick) {
+    return tick > lastTick || (tick == lastTick && !endsOnInstant);
+  }
+
+  /**
+   * Represents the span of ticks a shape moves over.
+   */
+  private static final class Lifespan extends ATimeInterval {
+    private Lifespan(int start, int end) {
+      super(start, end);
+    }
+  }
+}
@@ -7,6 +7,7 @@ import java.awt.geom.Ellipse2D;
  * Represents an Ellipse Shape.
  */
 public class Ellipse extends AShape {
+  private final Ellipse2D.Double geometry = new Ellipse2D.Double();
 
   /**
    * Constructs s ellipse with the given name.
@@ -48,7 +49,11 @@ public class Ellipse extends AShape {
    */
   @Override
   public Shape visualizeShape() {
-    return new Ellipse2D.Double(x, y, width, height);
+    if (geometryChanged) {
+      geometry.setFrame(x, y, width, height);
+      geometryChanged = false;
+    }
+    return geometry;
   }
 
   /**
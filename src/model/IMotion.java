@@ -1,7 +1,6 @@
 package model;
 
 import java.util.List;
-import java.util.Queue;
 
 /**
  * Interface representing a motion, which can be any combination of changing or maintaining an x
@@ -10,15 +9,17 @@ import java.util.Queue;
 public interface IMotion extends ITimeInterval {
 
   /**
-   * Adds this motion to the given queue of motions, combining it if necessary with any
-   * overlapping motions that already exist in the queue. Combining motions involves
-   * both splicing motions into overlapped vs. non-overlapped time periods, as well as
-   * combining the fields they change (x, y, w, h, and rgb) into one motion reflective of all
-   * changes.
-   * @param motionQueue represents the queue of motions for this motion to be added to
-   * @return the updated queue with this motion added
+   * Adds this motion to the given list of motions, which is sorted by start tick and has no
+   * overlapping motions, combining it if necessary with any overlapping motions that already
+   * exist in the list. Combining motions involves both splicing motions into overlapped vs.
+   * non-overlapped time periods, as well as combining the fields they change (x, y, w, h, and rgb)
+   * into one motion reflective of all changes. The list is left sorted and unchanged if the
+   * motions cannot be combined.
+   * @param motions represents the sorted list of motions for this motion to be added to
+   * @throws IllegalArgumentException if there are illegal/invalid overlaps between this motion
+   *          and the motions in the list
    */
-  Queue<IMotion> addToQueue(Queue<IMotion> motionQueue);
+  void addToList(List<IMotion> motions) throws IllegalArgumentException;
 
   /**
    * Combines the changes/transformations two motions, this motion and the given motion, make
@@ -75,6 +76,27 @@ public interface IMotion extends ITimeInterval {
    */
   void executeMotion(Shape shape);
 
+  /**
+   * Writes the state this motion gives its shape when rendered at the given tick into the given
+   * frame, without allocating. If the tick is during this motion, this is the state at the end
+   * of the one-tick splice of this motion starting at the tick; otherwise it is the end state of
+   * this motion.
+   * @param tick the tick being rendered.
+   * @param frame the frame to write the shape's state into.
+   * @param index the index of the shape in the frame.
+   */
+  void writeFrameState(int tick, AnimationFrame frame, int index);
+
+  /**
+   * Writes the state this motion gives its shape when rendered at the given tick straight into
+   * the given shape, without allocating. If the tick is during this motion, this is the state at
+   * the end of the one-tick splice of this motion starting at the tick; otherwise it is the end
+   * state of this motion, as with executeMotion.
+   * @param tick the tick being rendered.
+   * @param target the shape to write the state into.
+   */
+  void interpolateInto(int tick, Shape target);
+
   /**
    * Generates the string representation of this Motion, including each of its attributes (ticks,
    * x position, y position, width, height, color).
@@ -161,6 +183,18 @@ public interface IMotion extends ITimeInterval {
    */
   int[] getEndRGB();
 
+  /**
+   * Gets the first color of this motion, packed as 0xRRGGBB.
+   * @return the first color at the first tick of the motion.
+   */
+  int getStartColor();
+
+  /**
+   * Gets the final color of this motion, packed as 0xRRGGBB.
+   * @return the end color at the last tick of the motion.
+   */
+  int getEndColor();
+
   /**
    * Returns this motion and the other motion given as a list of spliced, combined motions.
    * Combining motions involves splitting up the motions into non-overlapping and overlapping
@@ -1,26 +1,25 @@
 package model;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Class representing a motion, which can be any combination of changing or maintaining an x
  * position, y position, width, height, color or hidden status.
  */
 public class Motion extends ATimeInterval implements IMotion {
-  private final double startX;
-  private final double endX;
-  private final double startY;
-  private final double endY;
-  private final double startW;
-  private final double endW;
-  private final double startH;
-  private final double endH;
-  private final int[] startRGB;
-  private final int[] endRGB;
+  // position and size are stored as floats and colors are packed as 0xRRGGBB, so a motion holds
+  // no arrays and takes well under half the memory of one storing doubles and int[] colors
+  private final float startX;
+  private final float endX;
+  private final float startY;
+  private final float endY;
+  private final float startW;
+  private final float endW;
+  private final float startH;
+  private final float endH;
+  private final int startColor;
+  private final int endColor;
 
   /**
    * Constructs a motion based on the given attributes.
@@ -42,82 +41,126 @@ public class Motion extends ATimeInterval implements IMotion {
    */
   public Motion(int startTick, int endTick, double startX, double endX, double startY, double endY,
       double startW, double endW, double startH, double endH, int[] startRGB, int[] endRGB) {
+    this(startTick, endTick, startX, endX, startY, endY, startW, endW, startH, endH,
+        pack(startRGB), pack(endRGB));
+  }
+
+  /**
+   * Constructs a motion based on the given attributes, with colors packed as 0xRRGGBB.
+   */
+  private Motion(int startTick, int endTick, double startX, double endX, double startY,
+      double endY, double startW, double endW, double startH, double endH, int startColor,
+      int endColor) {
     super(startTick, endTick);
-    if (startRGB == null || endRGB == null) {
+    this.startX = (float) startX;
+    this.endX = (float) endX;
+    this.startY = (float) startY;
+    this.endY = (float) endY;
+    this.startW = (float) startW;
+    this.endW = (float) endW;
+    this.startH = (float) startH;
+    this.endH = (float) endH;
+    this.startColor = startColor;
+    this.endColor = endColor;
+  }
+
+  /**
+   * Packs the given color as 0xRRGGBB.
+   * @param rgb the red, green, and blue values of the color.
+   * @return the packed color.
+   * @throws IllegalArgumentException if rgb is null
+   */
+  private static int pack(int[] rgb) {
+    if (rgb == null) {
       throw new IllegalArgumentException("Cannot create motion with null parameters.");
     }
-    this.startX = startX;
-    this.endX = endX;
-    this.startY = startY;
-    this.endY = endY;
-    this.startW = startW;
-    this.endW = endW;
-    this.startH = startH;
-    this.endH = endH;
-    this.startRGB = startRGB;
-    this.endRGB = endRGB;
-  }
-
-  /**
-   * Adds this motion to the given queue of motions, combining it if necessary with any
-   * overlapping motions that already exist in the queue. Combining motions involves
-   * both splicing motions into overlapped vs. non-overlapped time periods, as well as
-   * combining the fields they change (x, y, w, h, and rgb) into one motion reflective of all
-   * changes.
-   * @param motionQueue represents the queue of motions for this motion to be added to
-   * @return the updated queue with this motion added
-   */
-  public Queue<IMotion> addToQueue(Queue<IMotion> motionQueue) {
-    Queue<IMotion> newMotionQueue = new PriorityQueue<>(Motion.TIME_INTERVAL_COMP);
-    List<IMotion> overlappingMotions = new ArrayList<>();
-
-    // represents the first motion in the queue (first motion to be executed, since priority queue)
-    IMotion currentMotion = motionQueue.peek();
-
-    // while the motionQueue isn't empty and the current motion doesn't start after this motion
-    while (currentMotion != null && currentMotion.getStartTick() <= this.endTick) {
-
-      if (this.startTick >= currentMotion.getEndTick()) {
-        // if the current motion ends before this motion starts, it won't overlap so just add it
-        // to the new motion queue
-        newMotionQueue.add(motionQueue.poll());
-      } else if (this.startTick >= currentMotion.getStartTick()
-          || this.endTick <= currentMotion.getEndTick()) {
-        // this motion overlaps with the current motion,
-        // add current motion to list of overlapping motions and remove from the original queue
-        overlappingMotions.add(currentMotion);
-        motionQueue.remove();
+    // each value keeps its low eight bits, and a missing value is 0
+    int color = 0;
+    for (int ii = 0; ii < 3; ii += 1) {
+      color = (color << 8) | (ii < rgb.length ? rgb[ii] & 0xFF : 0);
+    }
+    return color;
+  }
+
+  /**
+   * Gets the red value of a packed color.
+   */
+  private static int red(int color) {
+    return (color >> 16) & 0xFF;
+  }
+
+  /**
+   * Gets the green value of a packed color.
+   */
+  private static int green(int color) {
+    return (color >> 8) & 0xFF;
+  }
+
+  /**
+   * Gets the blue value of a packed color.
+   */
+  private static int blue(int color) {
+    return color & 0xFF;
+  }
+
+  /**
+   * Adds this motion to the given list of motions, which is sorted by start tick and has no
+   * overlapping motions, combining it if necessary with any overlapping motions that already
+   * exist in the list. Combining motions involves both splicing motions into overlapped vs.
+   * non-overlapped time periods, as well as combining the fields they change (x, y, w, h, and rgb)
+   * into one motion reflective of all changes. The list is left sorted and unchanged if the
+   * motions cannot be combined.
+   * @param motions represents the sorted list of motions for this motion to be added to
+   * @throws IllegalArgumentException if there are illegal/invalid overlaps between this motion
+   *          and the motions in the list
+   */
+  public void addToList(List<IMotion> motions) throws IllegalArgumentException {
+    // motions in the list don't overlap, so their end ticks are sorted as well as their start
+    // ticks, and the motions overlapping this one are one run of the list: from the first motion
+    // that ends after this motion starts, up to the last motion that starts before it ends
+    int low = 0;
+    int high = motions.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (motions.get(mid).getEndTick() > this.startTick) {
+        high = mid;
+      } else {
+        low = mid + 1;
       }
-      // advance to the next motion in the motion queue
-      currentMotion = motionQueue.peek();
+    }
+    int firstOverlap = low;
+    int endOverlap = firstOverlap;
+    while (endOverlap < motions.size() && motions.get(endOverlap).getStartTick() <= this.endTick) {
+      endOverlap += 1;
+    }
+
+    // no overlapping motions, so just insert this motion in order
+    if (firstOverlap == endOverlap) {
+      motions.add(firstOverlap, this);
+      return;
     }
 
     // combine this motion with all the overlapping motions.
+    List<IMotion> combined = new ArrayList<>();
     IMotion currentCombineMotion = this;
-    // while there are still motions to go through and combine with this motion (aka overlapping
-    // motions)
-    while (overlappingMotions.size() > 0) {
-      // list will return anywhere from 1 - 3 elements representing the merged mot
-      // ions
-      List<IMotion> combinedMotions =
-          currentCombineMotion.combineMotion(overlappingMotions.remove(0));
-
-      // if there is at least one overlapping motion left, the last element of the combinedMotions
-      // list will be the remainder of this original motion that still needs to be merged with the
-      // rest of the overlapping motions
+    for (int ii = firstOverlap; ii < endOverlap; ii += 1) {
+      // list will return anywhere from 1 - 3 elements representing the merged motions
+      List<IMotion> combinedMotions = currentCombineMotion.combineMotion(motions.get(ii));
+
+      // the last element of the combinedMotions list will be the remainder of this original
+      // motion that still needs to be merged with the rest of the overlapping motions
       currentCombineMotion = combinedMotions.get(combinedMotions.size() - 1);
 
       // add all the other resulting motions from the merge
-      for (int index = 0; index < combinedMotions.size() - 1; index += 1) {
-        newMotionQueue.add(combinedMotions.get(index));
-      }
+      combined.addAll(combinedMotions.subList(0, combinedMotions.size() - 1));
     }
     // add the last remainder motion from the result of merging all overlapping elements
-    newMotionQueue.add(currentCombineMotion);
+    combined.add(currentCombineMotion);
+    combined.sort(Motion.TIME_INTERVAL_COMP);
 
-    // add all remaining motions from the original motionQueue to the new motion queue
-    newMotionQueue.addAll(motionQueue);
-    return newMotionQueue;
+    // replace the overlapping motions with the combined motions
+    motions.subList(firstOverlap, endOverlap).clear();
+    motions.addAll(firstOverlap, combined);
   }
 
   /**
@@ -235,18 +278,19 @@ public class Motion extends ATimeInterval implements IMotion {
     double rateOfChangeY = -(this.endY - this.startY) / (this.endTick - this.startTick);
     double rateOfChangeW = -(this.endW - this.startW) / (this.endTick - this.startTick);
     double rateOfChangeH = -(this.endH - this.startH) / (this.endTick - this.startTick);
-    int rateOfChangeR = (this.endRGB[0] - this.startRGB[0]) / (this.endTick - this.startTick);
-    int rateOfChangeG = (this.endRGB[1] - this.startRGB[1]) / (this.endTick - this.startTick);
-    int rateOfChangeB = (this.endRGB[2] - this.startRGB[2]) / (this.endTick - this.startTick);
 
     int newStartTick = Math.max(splitTickStart, this.startTick);
     int newEndTick = Math.min(splitTickEnd, this.endTick);
-    int[] newStartRGB = {this.startRGB[0] + rateOfChangeR * (newStartTick - this.startTick),
-        this.startRGB[1] + rateOfChangeG * (newStartTick - this.startTick),
-        this.startRGB[2] + rateOfChangeB * (newStartTick - this.startTick)};
-    int[] newEndRGB = {this.endRGB[0] + rateOfChangeR * (newEndTick - this.endTick),
-        this.endRGB[1] + rateOfChangeG * (newEndTick - this.endTick),
-        this.endRGB[2] + rateOfChangeB * (newEndTick - this.endTick)};
+    // each color value changes at its own whole-number rate
+    int newStartColor = 0;
+    int newEndColor = 0;
+    for (int shift = 16; shift >= 0; shift -= 8) {
+      int start = (this.startColor >> shift) & 0xFF;
+      int end = (this.endColor >> shift) & 0xFF;
+      int rateOfChange = (end - start) / (this.endTick - this.startTick);
+      newStartColor |= (start + rateOfChange * (newStartTick - this.startTick)) << shift;
+      newEndColor |= (end + rateOfChange * (newEndTick - this.endTick)) << shift;
+    }
 
     return new Motion(newStartTick, newEndTick,
         this.startX + (newStartTick - this.startTick) * rateOfChangeX,
@@ -257,7 +301,7 @@ public class Motion extends ATimeInterval implements IMotion {
         this.endW - (newEndTick - this.endTick) * rateOfChangeW,
         this.startH + (newStartTick - this.startTick) * rateOfChangeH,
         this.endH - (newEndTick - this.endTick) * rateOfChangeH,
-        newStartRGB, newEndRGB);
+        newStartColor, newEndColor);
   }
 
   /**
@@ -352,25 +396,24 @@ public class Motion extends ATimeInterval implements IMotion {
     }
 
     // RGB
-    int[] newRGBStart;
-    int[] newRGBEnd;
+    int newStartColor;
+    int newEndColor;
     if (change1[4] == change2[4]) {
-      if (!Arrays.equals(m1.getStartRGB(), this.startRGB) || !Arrays.equals(m1.getEndRGB(),
-          this.endRGB)) {
+      if (m1.getStartColor() != this.startColor || m1.getEndColor() != this.endColor) {
         throw new IllegalArgumentException("Cannot add motions that have conflicted unchanged "
             + "fields.");
       }
-      newRGBStart = this.startRGB;
-      newRGBEnd = this.endRGB;
+      newStartColor = this.startColor;
+      newEndColor = this.endColor;
     } else if (change1[2]) {
-      newRGBStart = this.startRGB;
-      newRGBEnd = this.endRGB;
+      newStartColor = this.startColor;
+      newEndColor = this.endColor;
     } else {
-      newRGBStart = m1.getStartRGB();
-      newRGBEnd = m1.getEndRGB();
+      newStartColor = m1.getStartColor();
+      newEndColor = m1.getEndColor();
     }
     return new Motion(this.startTick, this.endTick, newStartX, newEndX, newStartY, newEndY,
-        newStartW, newEndW, newStartH, newEndH, newRGBStart, newRGBEnd);
+        newStartW, newEndW, newStartH, newEndH, newStartColor, newEndColor);
   }
 
   /**
@@ -384,7 +427,7 @@ public class Motion extends ATimeInterval implements IMotion {
   public boolean validConsecutiveMotion(IMotion m1) {
     return (this.startX == m1.getEndX() && this.startY == m1.getEndY() &&
         this.startW == m1.getEndW()
-        && this.startH == m1.getEndH() && Arrays.equals(this.startRGB, m1.getEndRGB()));
+        && this.startH == m1.getEndH() && this.startColor == m1.getEndColor());
   }
 
   /**
@@ -427,7 +470,7 @@ public class Motion extends ATimeInterval implements IMotion {
     bitwiseChanges[1] = startY - endY != 0;
     bitwiseChanges[2] = startW - endW != 0;
     bitwiseChanges[3] = startH - endH != 0;
-    bitwiseChanges[4] = !Arrays.equals(startRGB, endRGB);
+    bitwiseChanges[4] = startColor != endColor;
     return bitwiseChanges;
   }
 
@@ -437,12 +480,104 @@ public class Motion extends ATimeInterval implements IMotion {
    * @param shape the shape to execute motion for.
    */
   public void executeMotion(Shape shape) {
-    shape.setColor(endRGB[0], endRGB[1] , endRGB[2]);
+    shape.setColor(red(endColor), green(endColor), blue(endColor));
     shape.setSize(endW, endH);
     shape.setX(endX);
     shape.setY(endY);
   }
 
+  /**
+   * Writes the state this motion gives its shape when rendered at the given tick into the given
+   * frame, without allocating. If the tick is during this motion, this is the state at the end
+   * of the one-tick splice of this motion starting at the tick; otherwise it is the end state of
+   * this motion.
+   * @param tick the tick being rendered.
+   * @param frame the frame to write the shape's state into.
+   * @param index the index of the shape in the frame.
+   */
+  public void writeFrameState(int tick, AnimationFrame frame, int index) {
+    int duration = duration();
+    double offset = offsetAt(tick);
+    frame.set(index,
+        interpolate(startX, endX, duration, offset),
+        interpolate(startY, endY, duration, offset),
+        interpolate(startW, endW, duration, offset),
+        interpolate(startH, endH, duration, offset),
+        interpolate(red(startColor), red(endColor), duration, offset),
+        interpolate(green(startColor), green(endColor), duration, offset),
+        interpolate(blue(startColor), blue(endColor), duration, offset));
+  }
+
+  /**
+   * Writes the state this motion gives its shape when rendered at the given tick straight into
+   * the given shape, without allocating. If the tick is during this motion, this is the state at
+   * the end of the one-tick splice of this motion starting at the tick; otherwise it is the end
+   * state of this motion, as with executeMotion.
+   * @param tick the tick being rendered.
+   * @param target the shape to write the state into.
+   */
+  public void interpolateInto(int tick, Shape target) {
+    int duration = duration();
+    double offset = offsetAt(tick);
+    target.setColor(interpolate(red(startColor), red(endColor), duration, offset),
+        interpolate(green(startColor), green(endColor), duration, offset),
+        interpolate(blue(startColor), blue(endColor), duration, offset));
+    target.setSize(interpolate(startW, endW, duration, offset),
+        interpolate(startH, endH, duration, offset));
+    target.setX(interpolate(startX, endX, duration, offset));
+    target.setY(interpolate(startY, endY, duration, offset));
+  }
+
+  /**
+   * Gets the number of ticks this motion interpolates its values over, which is at least one so
+   * that motions lasting no ticks can still be interpolated at their end state.
+   * @return the number of ticks from start to end, or 1 if there are none.
+   */
+  private int duration() {
+    return Math.max(1, this.endTick - this.startTick);
+  }
+
+  /**
+   * Gets the offset from this motion's end tick to interpolate its values at when rendering the
+   * given tick. This is the same arithmetic as the end values of splice(tick, tick + 1), which
+   * reaches the end state at the last tick of this motion; outside of this motion, the offset is
+   * 0, for its end state.
+   * @param tick the tick being rendered.
+   * @return the offset from the end tick, 0 or negative.
+   */
+  private int offsetAt(int tick) {
+    if (tick < this.startTick || tick >= this.endTick) {
+      return 0;
+    }
+    return tick + 1 - this.endTick;
+  }
+
+  /**
+   * Linearly interpolates a value of this motion, offset from its end tick.
+   * @param start the value at the start tick.
+   * @param end the value at the end tick.
+   * @param duration the number of ticks from start to end.
+   * @param offset the number of ticks from the end tick (negative for ticks before it).
+   * @return the interpolated value.
+   */
+  private static double interpolate(double start, double end, int duration, double offset) {
+    double rateOfChange = -(end - start) / duration;
+    return end - offset * rateOfChange;
+  }
+
+  /**
+   * Linearly interpolates a color value of this motion, offset from its end tick, changing at a
+   * whole-number rate per tick.
+   * @param start the color value at the start tick.
+   * @param end the color value at the end tick.
+   * @param duration the number of ticks from start to end.
+   * @param offset the number of ticks from the end tick (negative for ticks before it).
+   * @return the interpolated color value, rounded toward the end value.
+   */
+  private static int interpolate(int start, int end, int duration, double offset) {
+    return end + (int) ((end - start) / duration * offset);
+  }
+
   /**
    * Generates the string representation of this Motion, including each of its attributes (ticks,
    * x position, y position, width, height, color).
@@ -460,8 +595,8 @@ public class Motion extends ATimeInterval implements IMotion {
    */
   public String toStringStartValues() {
     return String.format("%.2f %.2f %.2f %.2f %d %d %d",
-        this.startX, this.startY, this.startH, this.startW, this.startRGB[0],
-        this.startRGB[1], this.startRGB[2]);
+        this.startX, this.startY, this.startH, this.startW, red(this.startColor),
+        green(this.startColor), blue(this.startColor));
   }
 
   /**
@@ -470,7 +605,7 @@ public class Motion extends ATimeInterval implements IMotion {
    */
   public String toStringEndValues() {
     return String.format("%.2f %.2f %.2f %.2f %d %d %d", this.endX, this.endY, this.endH, this.endW,
-        this.endRGB[0], this.endRGB[1], this.endRGB[2]);
+        red(this.endColor), green(this.endColor), blue(this.endColor));
   }
 
   /**
@@ -490,8 +625,8 @@ public class Motion extends ATimeInterval implements IMotion {
    */
   private String toStringStartValuesAsInt() {
     return String.format("%d %d %d %d %d %d %d",
-        (int)this.startX, (int)this.startY, (int)this.startH, (int)this.startW, this.startRGB[0],
-        this.startRGB[1], this.startRGB[2]);
+        (int)this.startX, (int)this.startY, (int)this.startH, (int)this.startW,
+        red(this.startColor), green(this.startColor), blue(this.startColor));
   }
 
   /**
@@ -501,7 +636,7 @@ public class Motion extends ATimeInterval implements IMotion {
   private String toStringEndValuesAsInt() {
     return String.format("%d %d %d %d %d %d %d", (int)this.endX, (int) this.endY,
         (int)this.endH, (int)this.endW,
-        this.endRGB[0], this.endRGB[1], this.endRGB[2]);
+        red(this.endColor), green(this.endColor), blue(this.endColor));
   }
 
   /**
@@ -569,19 +704,35 @@ public class Motion extends ATimeInterval implements IMotion {
   }
 
   /**
-   * Gets the first RGB value of this motion.
+   * Gets the first RGB value of this motion, as a new array.
    * @return the first RGB value at the first tick of the motion.
    */
   public int[] getStartRGB() {
-    return startRGB;
+    return new int[]{red(startColor), green(startColor), blue(startColor)};
   }
 
   /**
-   * Gets the final RGB value of this motion.
+   * Gets the final RGB value of this motion, as a new array.
    * @return the end RGB value at the last tick of the motion.
    */
   public int[] getEndRGB() {
-    return endRGB;
+    return new int[]{red(endColor), green(endColor), blue(endColor)};
+  }
+
+  /**
+   * Gets the first color of this motion, packed as 0xRRGGBB.
+   * @return the first color at the first tick of the motion.
+   */
+  public int getStartColor() {
+    return startColor;
+  }
+
+  /**
+   * Gets the final color of this motion, packed as 0xRRGGBB.
+   * @return the end color at the last tick of the motion.
+   */
+  public int getEndColor() {
+    return endColor;
   }
 
 }
\ No newline at end of file
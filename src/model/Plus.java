@@ -1,12 +1,19 @@
 package model;
 
-import java.awt.Polygon;
 import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
 
 /**
  * Represents a Plus sign Shape.
  */
 public class Plus extends AShape {
+  // the outline of a plus sign filling the unit square, with arms a quarter of the way in
+  private static final Path2D.Double UNIT_PLUS = makeUnitPlus();
+
+  // maps the unit plus sign onto this plus sign's bounding box
+  private final AffineTransform transform = new AffineTransform();
+  private final Path2D.Double geometry = new Path2D.Double(Path2D.WIND_NON_ZERO, 13);
 
   /**
    * Constructs a plus sign with the given name.
@@ -36,8 +43,29 @@ public class Plus extends AShape {
 
   @Override
   public Shape visualizeShape() {
-    return new Polygon(makeXs((int)this.x, (int)this.width),
-        makeYs((int)this.y, (int)this.height), 12);
+    if (geometryChanged) {
+      transform.setTransform(this.width, 0, 0, this.height, this.x, this.y);
+      geometry.reset();
+      geometry.append(UNIT_PLUS.getPathIterator(transform), false);
+      geometryChanged = false;
+    }
+    return geometry;
+  }
+
+  /**
+   * Builds the outline of a plus sign filling the unit square, going clockwise from the top left
+   * corner of its top arm, in the same order as makeXs and makeYs.
+   */
+  private static Path2D.Double makeUnitPlus() {
+    double[] xs = {.25, .75, .75, 1, 1, .75, .75, .25, .25, 0, 0, .25};
+    double[] ys = {0, 0, .25, .25, .75, .75, 1, 1, .75, .75, .25, .25};
+    Path2D.Double plus = new Path2D.Double(Path2D.WIND_NON_ZERO, 13);
+    plus.moveTo(xs[0], ys[0]);
+    for (int ii = 1; ii < xs.length; ii += 1) {
+      plus.lineTo(xs[ii], ys[ii]);
+    }
+    plus.closePath();
+    return plus;
   }
 
   @Override
@@ -7,6 +7,7 @@ import java.awt.geom.Rectangle2D;
  * Represents a Rectangle Shape.
  */
 public class Rectangle extends AShape {
+  private final Rectangle2D.Double geometry = new Rectangle2D.Double();
 
   /**
    * Constructs a rectangle with the given name.
@@ -48,7 +49,11 @@ public class Rectangle extends AShape {
    */
   @Override
   public Shape visualizeShape() {
-    return new Rectangle2D.Double(x, y, width, height);
+    if (geometryChanged) {
+      geometry.setFrame(x, y, width, height);
+      geometryChanged = false;
+    }
+    return geometry;
   }
 
   /**
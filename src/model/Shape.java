@@ -44,7 +44,8 @@ public interface Shape {
   void setY(double deltaY);
 
   /**
-   * Creates the visualization of a single shape.
+   * Creates the visualization of a single shape. The same object is returned every time, updated
+   * in place whenever this shape moves or resizes, so it should not be kept between changes.
    */
   java.awt.Shape visualizeShape();
 
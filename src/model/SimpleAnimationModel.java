@@ -2,11 +2,14 @@ package model;
 
 import cs3500.animator.util.AnimationBuilder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.TreeMap;
 import view.IAnimationViewModel;
 
 /**
@@ -18,29 +21,88 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
   private final Map<String, Shape> shapes;
   // represents an ordered list of shapes, based on the order they were inputted
   private final List<Shape> orderedShapes;
-  // represents the map from shapes to their respective queues (represented as Priority queues)
-  private final Map<Shape, Queue<IMotion>> motionMap;
+  // represents the map from shapes to their respective motions, as lists sorted by start tick
+  private final Map<Shape, List<IMotion>> motionMap;
   private boolean isStarted;
   private int canvasWidth;
   private int canvasHeight;
   private int originX;
   private int originY;
-  private final Queue<ITempo> tempos;
+  // represents the tempos of this animation by start tick; no two tempos overlap
+  private final TreeMap<Integer, ITempo> tempos;
+  // represents the last range of ticks [tempoRangeStart, tempoRangeEnd) looked up by getTempo,
+  // over which the tick rate is tempoRangeSpeed (0 for no tempo), so that looking up the ticks of
+  // an animation in order rarely searches the tempos
+  private int tempoRangeStart;
+  private int tempoRangeEnd;
+  private int tempoRangeSpeed;
+  // represents the last timeline built by getTimeline, or null if the tempos changed since
+  private TempoTimeline timeline;
+  // represents the sorted, immutable per-shape motion arrays used for tick lookups, rebuilt
+  // lazily whenever the motions of this model change
+  private Map<Shape, IMotion[]> motionIndex;
+  // the start and end ticks of every motion, sorted and without duplicates, built when first
+  // needed, and the index of the keyframe last found, so sequential lookups skip the search
+  private int[] keyframes;
+  private int keyframeCursor;
+  // the timing of the animation, computed when it starts or when first needed
+  private AnimationSummary summary;
+  // represents the frame reused by every call to getFrame(int)
+  private final AnimationFrame frame;
 
   /**
    * Represents the builder class for this model, which can add shapes and motions to the model
    * it has.
    */
   public static final class Builder implements AnimationBuilder<AnimationModel> {
-    AnimationModel model = new SimpleAnimationModel();
+    SimpleAnimationModel model = new SimpleAnimationModel();
+    // whether motions are buffered until build() instead of being merged into the model one at
+    // a time
+    private final boolean bulkLoad;
+    // the buffered motions of each shape, in the order the shapes were first given motions. Keyed
+    // by shape rather than name, so a shape that is declared again only gets the motions given
+    // after it, as when motions are added one at a time
+    private final Map<Shape, MotionBuffer> pendingMotions;
 
     /**
-     * Constructs a final document.
+     * Constructs a builder that adds each motion to the model as soon as it is given.
+     */
+    public Builder() {
+      this(false);
+    }
+
+    /**
+     * Constructs a builder that, if bulkLoad is true, buffers the motions given to it and only
+     * adds them to the model in build(), sorting each shape's motions once and merging any
+     * overlapping motions in one sweep. This is faster for large animations, but errors from
+     * overlapping motions are only thrown by build(). Otherwise, it behaves like
+     * {@link #Builder()}.
+     *
+     * @param bulkLoad whether to buffer motions until the document is built
+     */
+    public Builder(boolean bulkLoad) {
+      this.bulkLoad = bulkLoad;
+      this.pendingMotions = new LinkedHashMap<>();
+    }
+
+    /**
+     * Constructs a final document. If motions were buffered, they are first added to the model,
+     * and the model is checked for shape state jumps between consecutive motions.
      *
      * @return the newly constructed document
+     * @throws IllegalArgumentException if there are illegal/invalid overlaps between buffered
+     *         motions
+     * @throws IllegalStateException if consecutive motions of a shape have jumps in shape state
      */
     @Override
     public AnimationModel build() {
+      if (bulkLoad) {
+        for (Map.Entry<Shape, MotionBuffer> entry : pendingMotions.entrySet()) {
+          model.loadMotions(entry.getKey(), entry.getValue().toSortedMotions());
+        }
+        pendingMotions.clear();
+        model.validateContinuity();
+      }
       return model;
     }
 
@@ -115,6 +177,12 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     public AnimationBuilder<AnimationModel> addMotion(String name, int t1, int x1, int y1, int w1,
         int h1, int r1, int g1, int b1, int t2, int x2, int y2, int w2, int h2, int r2, int g2,
         int b2) {
+      if (bulkLoad) {
+        model.checkMotionTarget(name, t1, t2);
+        pendingMotions.computeIfAbsent(model.shapes.get(name), k -> new MotionBuffer())
+            .add(t1, x1, y1, w1, h1, r1, g1, b1, t2, x2, y2, w2, h2, r2, g2, b2);
+        return this;
+      }
       int[] rgb1 = {r1, g1, b1};
       int[] rgb2 = {r2, g2, b2};
 
@@ -135,6 +203,77 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
       model.addTempo(start, end, speed);
       return this;
     }
+
+    /**
+     * Represents the motions of one shape given to a bulk loading builder, stored as the builder
+     * was given them, in one growing int array with 16 values per motion.
+     */
+    private static final class MotionBuffer {
+      private static final int FIELDS = 16;
+
+      private int[] values;
+      private int count;
+
+      private MotionBuffer() {
+        this.values = new int[FIELDS * 8];
+        this.count = 0;
+      }
+
+      /**
+       * Adds a motion to this buffer, with its arguments in the order of
+       * {@link AnimationBuilder#addMotion}.
+       */
+      private void add(int t1, int x1, int y1, int w1, int h1, int r1, int g1, int b1,
+          int t2, int x2, int y2, int w2, int h2, int r2, int g2, int b2) {
+        if ((count + 1) * FIELDS > values.length) {
+          values = Arrays.copyOf(values, values.length * 2);
+        }
+        int v = count * FIELDS;
+        values[v] = t1;
+        values[v + 1] = x1;
+        values[v + 2] = y1;
+        values[v + 3] = w1;
+        values[v + 4] = h1;
+        values[v + 5] = r1;
+        values[v + 6] = g1;
+        values[v + 7] = b1;
+        values[v + 8] = t2;
+        values[v + 9] = x2;
+        values[v + 10] = y2;
+        values[v + 11] = w2;
+        values[v + 12] = h2;
+        values[v + 13] = r2;
+        values[v + 14] = g2;
+        values[v + 15] = b2;
+        count += 1;
+      }
+
+      /**
+       * Creates the motions in this buffer, sorted by start tick. Motions with the same start
+       * tick are kept in the order they were added.
+       *
+       * @return the sorted motions
+       * @throws IllegalArgumentException if any motion has invalid ticks
+       */
+      private IMotion[] toSortedMotions() {
+        // sort start ticks together with buffer positions, which keeps the sort stable
+        long[] order = new long[count];
+        for (int ii = 0; ii < count; ii += 1) {
+          order[ii] = ((long) values[ii * FIELDS] << 32) | ii;
+        }
+        Arrays.sort(order);
+        IMotion[] motions = new IMotion[count];
+        for (int ii = 0; ii < count; ii += 1) {
+          int v = (int) order[ii] * FIELDS;
+          motions[ii] = new Motion(values[v], values[v + 8],
+              values[v + 1], values[v + 9], values[v + 2], values[v + 10],
+              values[v + 3], values[v + 11], values[v + 4], values[v + 12],
+              new int[]{values[v + 5], values[v + 6], values[v + 7]},
+              new int[]{values[v + 13], values[v + 14], values[v + 15]});
+        }
+        return motions;
+      }
+    }
   }
 
   /**
@@ -154,7 +293,16 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     this.motionMap = new HashMap<>();
     this.isStarted = false;
     this.orderedShapes = new ArrayList<>();
-    this.tempos = new PriorityQueue<>(Tempo.TIME_INTERVAL_COMP);
+    this.tempos = new TreeMap<>();
+    this.tempoRangeStart = 0;
+    this.tempoRangeEnd = 0;
+    this.tempoRangeSpeed = 0;
+    this.timeline = null;
+    this.motionIndex = null;
+    this.keyframes = null;
+    this.summary = null;
+    this.keyframeCursor = 0;
+    this.frame = new AnimationFrame(0);
   }
 
   /**
@@ -173,22 +321,47 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
    */
   @Override
   public void startAnimation() throws IllegalStateException {
+    validateContinuity();
+    this.motionIndex = buildMotionIndex();
+    this.summary = new AnimationSummary(orderedShapes, motionMap);
+    this.isStarted = true;
+  }
+
+  /**
+   * Checks that for every shape, all consecutive motions have the same respective end and start
+   * shape state.
+   *
+   * @throws IllegalStateException if the in-order motions for any shape have jumps between
+   *          the end shape state of one motion and the start shape state of the next motion
+   */
+  private void validateContinuity() throws IllegalStateException {
     // enforce class invariant where for a given shape,
     // all consecutive motions' must have the same respective
     // end and start data
-    for (Queue<IMotion> q : motionMap.values()) {
-      Queue<IMotion> motionQueueCopy = new PriorityQueue<>(q);
-      while (motionQueueCopy.size() >= 2) {
-        IMotion motion1 = motionQueueCopy.remove();
-        IMotion motion2 = motionQueueCopy.element();
+    for (List<IMotion> motions : motionMap.values()) {
+      for (int ii = 1; ii < motions.size(); ii += 1) {
+        IMotion motion1 = motions.get(ii - 1);
+        IMotion motion2 = motions.get(ii);
         if (!motion2.validConsecutiveMotion(motion1)) {
           throw new IllegalStateException("Game must be started without shape state"
               + " jumps between consecutive motions.");
         }
       }
     }
+  }
 
-    this.isStarted = true;
+  /**
+   * Builds the sorted array of motions for every shape in this animation, ordered by start tick,
+   * so that the motion of a shape at any tick can be found with a binary search.
+   *
+   * @return the map from each shape to its motions sorted by start tick
+   */
+  private Map<Shape, IMotion[]> buildMotionIndex() {
+    Map<Shape, IMotion[]> index = new HashMap<>();
+    for (Map.Entry<Shape, List<IMotion>> entry : motionMap.entrySet()) {
+      index.put(entry.getKey(), entry.getValue().toArray(new IMotion[0]));
+    }
+    return index;
   }
 
   /**
@@ -227,7 +400,10 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     }
     shapes.put(name, newShape);
     orderedShapes.add(newShape);
-    motionMap.put(newShape, new PriorityQueue<>(Motion.TIME_INTERVAL_COMP));
+    motionMap.put(newShape, new ArrayList<>());
+    this.motionIndex = null;
+    this.keyframes = null;
+    this.summary = null;
   }
 
 
@@ -288,7 +464,10 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     }
     shapes.put(name, newShape);
     orderedShapes.add(newShape);
-    motionMap.put(newShape, new PriorityQueue<>(Motion.TIME_INTERVAL_COMP));
+    motionMap.put(newShape, new ArrayList<>());
+    this.motionIndex = null;
+    this.keyframes = null;
+    this.summary = null;
   }
 
   /**
@@ -321,7 +500,30 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
       throw new IllegalStateException("Modifications to animation cannot be made once animation "
           + "has started");
     }
-    if (name == null || startRGB == null || endRGB == null) {
+    if (startRGB == null || endRGB == null) {
+      throw new IllegalArgumentException("Cannot add motion with null parameters.");
+    }
+    checkMotionTarget(name, startTick, endTick);
+    IMotion newMotion = new Motion(startTick, endTick, startX, endX, startY, endY, startW, endW,
+        startH, endH, startRGB, endRGB);
+    // addToList enforces our invariant that only one motion can exist for any given tick value
+    newMotion.addToList(motionMap.get(shapes.get(name)));
+    this.motionIndex = null;
+    this.keyframes = null;
+    this.summary = null;
+  }
+
+  /**
+   * Checks that a motion with the given ticks can be added to the shape with the given name.
+   *
+   * @param name represents the name of the shape the motion corresponds with
+   * @param startTick the starting tick of the motion
+   * @param endTick the ending tick of the motion
+   * @throws IllegalArgumentException if name is null or is not a shape in this animation
+   * @throws IllegalStateException if either tick is negative
+   */
+  private void checkMotionTarget(String name, int startTick, int endTick) {
+    if (name == null) {
       throw new IllegalArgumentException("Cannot add motion with null parameters.");
     }
     // enforcing invariant
@@ -333,11 +535,30 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     if (startTick < 0 || endTick < 0) {
       throw new IllegalStateException("Tick value cannot be negative");
     }
-    Queue<IMotion> motionQueue = motionMap.get(shapes.get(name));
-    IMotion newMotion = new Motion(startTick, endTick, startX, endX, startY, endY, startW, endW,
-        startH, endH, startRGB, endRGB);
-    // addToQueue enforces our invariant that only one motion can exist for any given tick value
-    motionMap.put(shapes.get(name), newMotion.addToQueue(motionQueue));
+  }
+
+  /**
+   * Adds the given motions, sorted by start tick, to the given shape. Each motion that starts
+   * after the motions already added is appended directly, and any other motion is combined with
+   * the motions it overlaps, so adding n sorted motions without overlaps takes linear time.
+   *
+   * @param shape represents the shape in this animation the motions correspond with
+   * @param sortedMotions the motions to add, sorted by start tick
+   * @throws IllegalArgumentException if there are illegal/invalid overlaps between motions
+   */
+  private void loadMotions(Shape shape, IMotion[] sortedMotions) {
+    List<IMotion> motions = motionMap.get(shape);
+    for (IMotion motion : sortedMotions) {
+      if (motions.isEmpty()
+          || motions.get(motions.size() - 1).getEndTick() <= motion.getStartTick()) {
+        motions.add(motion);
+      } else {
+        motion.addToList(motions);
+      }
+    }
+    this.motionIndex = null;
+    this.keyframes = null;
+    this.summary = null;
   }
 
   /**
@@ -388,7 +609,10 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
    */
   @Override
   public Queue<IMotion> getShapeMotions(Shape s) {
-    return new PriorityQueue<>(this.motionMap.get(s));
+    // adding the already sorted motions in order keeps the queue's iteration order sorted too
+    Queue<IMotion> motions = new PriorityQueue<>(Motion.TIME_INTERVAL_COMP);
+    motions.addAll(this.motionMap.get(s));
+    return motions;
   }
 
   /**
@@ -402,6 +626,139 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     return getShapeMotions(this.shapes.get(s));
   }
 
+  /**
+   * Gets the motion that determines the state of the given shape at the given tick, i.e. the
+   * motion occurring during the tick or, if there is none, the last motion before it. Uses a
+   * binary search over the shape's sorted motions, so no motions are copied.
+   *
+   * @param s the shape to get the motion of.
+   * @param tick represents the tick value to get the motion at
+   * @return the motion at or most recently before the given tick, or null if the shape has no
+   *          motions starting at or before the tick
+   * @throws IllegalArgumentException if tick is negative or the shape is not in this animation
+   */
+  @Override
+  public IMotion getMotionAt(Shape s, int tick) throws IllegalArgumentException {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Negative tick value is not allowed.");
+    }
+    IMotion[] motions = indexedMotions(s);
+    if (motions == null) {
+      throw new IllegalArgumentException("Given shape does not exist in this animation.");
+    }
+    return motionAt(motions, tick);
+  }
+
+  /**
+   * Gets the sorted motions of the given shape, building the motion index first if needed.
+   *
+   * @param s the shape to get the motions of.
+   * @return the motions of the shape sorted by start tick, or null if shape is not in this model
+   */
+  private IMotion[] indexedMotions(Shape s) {
+    if (this.motionIndex == null) {
+      this.motionIndex = buildMotionIndex();
+    }
+    return this.motionIndex.get(s);
+  }
+
+  /**
+   * Finds the last of the given sorted motions that starts at or before the given tick.
+   *
+   * @param motions the motions to search, sorted by start tick
+   * @param tick represents the tick value to get the motion at
+   * @return the last motion starting at or before the tick, or null if there is none
+   */
+  private static IMotion motionAt(IMotion[] motions, int tick) {
+    int low = 0;
+    int high = motions.length - 1;
+    int found = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (motions[mid].getStartTick() <= tick) {
+        found = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    if (found == -1) {
+      return null;
+    }
+    return motions[found];
+  }
+
+  /**
+   * Fills this model's reusable frame with the state of every shape at the given tick, in the
+   * order the shapes were inputted. The returned frame is overwritten by the next call.
+   *
+   * @param tick represents the tick value to get the state of the shapes at
+   * @return this model's frame, filled with the state of the shapes at the given tick
+   * @throws IllegalArgumentException if tick is negative
+   */
+  @Override
+  public AnimationFrame getFrame(int tick) throws IllegalArgumentException {
+    return getFrame(tick, this.frame);
+  }
+
+  /**
+   * Fills the given frame with the state of every shape at the given tick, in the order the
+   * shapes were inputted. A shape is visible in the frame if it has a motion at or before the
+   * tick.
+   *
+   * @param tick represents the tick value to get the state of the shapes at
+   * @param frame represents the frame to fill
+   * @return the given frame, filled with the state of the shapes at the given tick
+   * @throws IllegalArgumentException if tick is negative or frame is null
+   */
+  @Override
+  public AnimationFrame getFrame(int tick, AnimationFrame frame)
+      throws IllegalArgumentException {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Negative tick value is not allowed.");
+    }
+    if (frame == null) {
+      throw new IllegalArgumentException("Cannot fill a null frame.");
+    }
+    frame.resize(orderedShapes.size());
+    frame.setTick(tick);
+    for (int ii = 0; ii < orderedShapes.size(); ii += 1) {
+      IMotion motion = motionAt(indexedMotions(orderedShapes.get(ii)), tick);
+      if (motion != null) {
+        motion.writeFrameState(tick, frame, ii);
+      }
+    }
+    return frame;
+  }
+
+  /**
+   * Fills the given frame with the state of every shape at the given fractional tick, in the
+   * order the shapes were inputted. Between whole ticks, each shape's state changes linearly from
+   * its state at the tick before to its state at the tick after, each taken from the motion at
+   * that tick, so shapes move smoothly from one motion into the next. A shape is visible in the
+   * frame if it has a motion at or before the tick before.
+   *
+   * @param time represents the fractional tick to get the state of the shapes at
+   * @param frame represents the frame to fill
+   * @return the given frame, filled with the state of the shapes at the given time
+   * @throws IllegalArgumentException if time is negative or frame is null
+   */
+  @Override
+  public AnimationFrame getFrame(double time, AnimationFrame frame)
+      throws IllegalArgumentException {
+    if (time < 0) {
+      throw new IllegalArgumentException("Negative tick value is not allowed.");
+    }
+    int tick = (int) time;
+    getFrame(tick, frame);
+    double fraction = time - tick;
+    if (fraction > 0) {
+      frame.blend(getFrame(tick + 1, frame.following()), fraction);
+      frame.setTime(time);
+    }
+    return frame;
+  }
+
   /**
    * Gets the x coordinate of the origin of this model's canvas.
    * @return the x coordinate of the origin of this model's canvas.
@@ -451,44 +808,125 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     if (tick < 0) {
       throw new IllegalArgumentException("Negative tick value is not allowed.");
     }
-    for (Shape shape : orderedShapes) {
-      for (IMotion motion : motionMap.get(shape)) {
-        if (motion.compareToTick(tick) != -1) {
-          return false;
-        }
-      }
+    return getSummary().isOver(tick);
+  }
+
+  /**
+   * Gets the last tick of this animation, i.e. the end tick of the motion that ends last, from
+   * this animation's summary.
+   *
+   * @return the end tick of the last motion to end, or 0 if there are no motions
+   */
+  @Override
+  public int getLastTick() {
+    return getSummary().getLastTick();
+  }
+
+  /**
+   * Gets the summary of this animation's timing. The summary is computed when the animation
+   * starts, and again on the next call after shapes or motions change.
+   *
+   * @return the summary of this animation
+   */
+  @Override
+  public AnimationSummary getSummary() {
+    if (this.summary == null) {
+      this.summary = new AnimationSummary(orderedShapes, motionMap);
     }
-    return true;
+    return this.summary;
   }
 
+  /**
+   * Finds the first start or end tick of a motion in this animation at or after the given tick,
+   * from the sorted index of keyframe ticks. The index found is kept, since during discrete
+   * playback the next call is almost always for the same keyframe or the one after it.
+   *
+   * @param tick represents the tick with which to find the next start or end of a motion
+   * @return the next start or end tick of a motion, or the given tick value if there are no
+   *        motions after the given tick
+   * @throws IllegalArgumentException if tick is negative
+   */
   @Override
   public int findNextTick(int tick) {
     if (tick < 0) {
       throw new IllegalArgumentException("Negative tick value is not allowed.");
     }
-    int nextTick = -1;
-
-    for (Shape shape : orderedShapes) {
-      Queue<IMotion> motions = this.getShapeMotions(shape);
-      IMotion motion = motions.poll();
-      while (motion != null) {
-        if (motion.getStartTick() >= tick && (nextTick == -1 || motion.getStartTick() < nextTick)) {
-          nextTick = motion.getStartTick();
-          break;
-        } else if (motion.getEndTick() >= tick
-            && (nextTick == -1 || motion.getEndTick() < nextTick)) {
-          nextTick = motion.getEndTick();
-          break;
+    int[] ticks = indexedKeyframes();
+    int cursor = keyframeCursor;
+    // during discrete playback the next keyframe is almost always the last one found or the one
+    // right after it
+    if (cursor >= ticks.length || ticks[cursor] < tick
+        || (cursor > 0 && ticks[cursor - 1] >= tick)) {
+      cursor += 1;
+      if (cursor >= ticks.length || ticks[cursor] < tick || ticks[cursor - 1] >= tick) {
+        cursor = Arrays.binarySearch(ticks, tick);
+        if (cursor < 0) {
+          cursor = -cursor - 1;
         }
-        motion = motions.poll();
       }
     }
+    keyframeCursor = cursor;
+    if (cursor == ticks.length) {
+      return tick;
+    }
+    return ticks[cursor];
+  }
 
-    if (nextTick == -1) {
+  /**
+   * Finds the last start or end tick of a motion in this animation at or before the given tick,
+   * by a binary search of the sorted index of keyframe ticks.
+   *
+   * @param tick represents the tick with which to find the last start or end of a motion
+   * @return the last start or end tick of a motion, or the given tick value if there are no
+   *        motions before the given tick
+   * @throws IllegalArgumentException if tick is negative
+   */
+  @Override
+  public int findPreviousTick(int tick) {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Negative tick value is not allowed.");
+    }
+    int[] ticks = indexedKeyframes();
+    int index = Arrays.binarySearch(ticks, tick);
+    if (index < 0) {
+      index = -index - 2;
+    }
+    if (index < 0) {
       return tick;
-    } else {
-      return nextTick;
     }
+    return ticks[index];
+  }
+
+  /**
+   * Gets the sorted start and end ticks of every motion, building them first if needed.
+   *
+   * @return the keyframes of this animation, sorted and without duplicates
+   */
+  private int[] indexedKeyframes() {
+    if (this.keyframes == null) {
+      int count = 0;
+      for (List<IMotion> motions : motionMap.values()) {
+        count += motions.size() * 2;
+      }
+      int[] ticks = new int[count];
+      int index = 0;
+      for (List<IMotion> motions : motionMap.values()) {
+        for (IMotion motion : motions) {
+          ticks[index++] = motion.getStartTick();
+          ticks[index++] = motion.getEndTick();
+        }
+      }
+      Arrays.sort(ticks);
+      int unique = 0;
+      for (int ii = 0; ii < count; ii += 1) {
+        if (unique == 0 || ticks[ii] != ticks[unique - 1]) {
+          ticks[unique++] = ticks[ii];
+        }
+      }
+      this.keyframes = Arrays.copyOf(ticks, unique);
+      this.keyframeCursor = 0;
+    }
+    return this.keyframes;
   }
 
   /**
@@ -513,7 +951,10 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
       throw new IllegalArgumentException("Cannot remove motion for shape " + name + " that doesn't "
           + "exist in animation.");
     }
-    motionMap.replace(shapes.get(name), new PriorityQueue<>(Motion.TIME_INTERVAL_COMP));
+    motionMap.replace(shapes.get(name), new ArrayList<>());
+    this.motionIndex = null;
+    this.keyframes = null;
+    this.summary = null;
   }
 
   /**
@@ -560,22 +1001,39 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
     this.canvasHeight = h;
   }
 
+  /**
+   * Returns the tick rate of the tempo occurring during the given tick, or 0 if there is none.
+   * The range of ticks around the last tick looked up that share its answer is kept, so looking
+   * up the ticks of a playing animation one after another rarely searches the tempos.
+   *
+   * @param tick represents the current tick that the tempo should be at
+   * @return the tick rate of the tempo occurring at the given tick, or 0 if there is no tempo
+   *          occurring
+   * @throws IllegalArgumentException if tick is negative
+   */
   @Override
   public int getTempo(int tick) throws IllegalArgumentException {
     if (tick < 0) {
       throw new IllegalArgumentException("Tick value cannot be negative.");
     }
-    Queue<ITempo> tempQueue = new PriorityQueue<>(this.tempos);
-    ITempo tempo = tempQueue.poll();
-    while (tempo != null) {
-      if (tempo.compareToTick(tick) == 0) {
-        return tempo.getTempo();
-      } else if (tempo.compareToTick(tick) > 0) {
-        break;
-      }
-      tempo = tempQueue.poll();
+    if (tick >= tempoRangeStart && tick < tempoRangeEnd) {
+      return tempoRangeSpeed;
+    }
+    // tempos don't overlap, so only the last tempo starting at or before the tick can contain it
+    Map.Entry<Integer, ITempo> floor = tempos.floorEntry(tick);
+    if (floor != null && floor.getValue().compareToTick(tick) == 0) {
+      ITempo tempo = floor.getValue();
+      tempoRangeStart = tempo.getStartTick();
+      tempoRangeEnd = Math.max(tempo.getEndTick(), tempo.getStartTick() + 1);
+      tempoRangeSpeed = tempo.getTempo();
+    } else {
+      // the tick is between tempos, up to the start of the next tempo
+      Integer next = tempos.higherKey(tick);
+      tempoRangeStart = tick;
+      tempoRangeEnd = next == null ? Integer.MAX_VALUE : next;
+      tempoRangeSpeed = 0;
     }
-    return 0;
+    return tempoRangeSpeed;
   }
 
   @Override
@@ -589,22 +1047,40 @@ public class SimpleAnimationModel implements AnimationModel, IAnimationViewModel
 
     ITempo newTempo = new Tempo(start, end, tempo);
 
-    Queue<ITempo> tempQueue = new PriorityQueue<>(this.tempos);
-    ITempo currTempo = tempQueue.poll();
-    // check to make sure there are no tempo overlaps
-    while (currTempo != null) {
-      if (currTempo.compareToTick(start) == 0 || currTempo.compareToTick(end) == 0) {
-        throw new IllegalArgumentException("Cannot add tempo with overlapping time interval.");
-      } else if (currTempo.compareToTick(end) > 0) {
-        break;
-      }
-      currTempo = tempQueue.poll();
+    // check to make sure there are no tempo overlaps: a tempo overlaps the new one if it is
+    // happening at the new start tick, or if it starts after the new start tick but by its end
+    Map.Entry<Integer, ITempo> before = tempos.floorEntry(start);
+    Integer after = tempos.higherKey(start);
+    if ((before != null && before.getValue().compareToTick(start) == 0)
+        || (after != null && after <= end)) {
+      throw new IllegalArgumentException("Cannot add tempo with overlapping time interval.");
+    }
+    tempos.put(start, newTempo);
+    this.tempoRangeEnd = this.tempoRangeStart;
+    this.timeline = null;
+  }
+
+  /**
+   * Returns the timeline of this animation played at the given tick rate. The timeline is kept
+   * and returned again until the tempos change or a different tick rate is asked for.
+   *
+   * @param tickRate represents the tick rate outside of this animation's tempos, given in ticks
+   *                 per second
+   * @return the timeline of this animation at the tick rate
+   * @throws IllegalArgumentException if tickRate is less than 1
+   */
+  @Override
+  public TempoTimeline getTimeline(int tickRate) throws IllegalArgumentException {
+    if (timeline == null || timeline.getTickRate() != tickRate) {
+      timeline = new TempoTimeline(tempos.values(), tickRate);
     }
-    tempos.add(newTempo);
+    return timeline;
   }
 
   @Override
   public Queue<ITempo> getTempos() {
-    return new PriorityQueue<>(this.tempos);
+    Queue<ITempo> result = new PriorityQueue<>(Tempo.TIME_INTERVAL_COMP);
+    result.addAll(this.tempos.values());
+    return result;
   }
 }
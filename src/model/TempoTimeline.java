@@ -0,0 +1,159 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Represents the wall-clock timing of an animation played at a given tick rate, with its tempos
+ * slowing down or speeding up the ticks they cover. Ticks are split into segments that each play
+ * at one tick rate, and the time each segment starts is stored as a running total, so the time of
+ * any tick, or the tick at any time, is found with one binary search.
+ */
+public final class TempoTimeline {
+  private final int tickRate;
+  // the number of segments, and for each segment its first tick, the time in milliseconds that
+  // its first tick starts, and the tick rate it plays at. The last segment never ends.
+  private final int count;
+  private final int[] segmentTicks;
+  private final double[] segmentMillis;
+  private final int[] segmentRates;
+
+  /**
+   * Constructs the timeline of an animation with the given tempos, played at the given tick rate
+   * outside of its tempos.
+   * @param tempos the tempos of the animation, sorted by start tick and not overlapping.
+   * @param tickRate the tick rate of the animation outside of its tempos, in ticks per second.
+   * @throws IllegalArgumentException if tempos is null or tickRate is less than 1
+   */
+  TempoTimeline(Iterable<ITempo> tempos, int tickRate) {
+    if (tempos == null) {
+      throw new IllegalArgumentException("Cannot construct timeline with null tempos.");
+    }
+    if (tickRate < 1) {
+      throw new IllegalArgumentException("Cannot construct timeline with a tick rate less "
+          + "than 1.");
+    }
+    this.tickRate = tickRate;
+    int[] ticks = new int[8];
+    double[] millis = new double[8];
+    int[] rates = new int[8];
+    int segments = 0;
+    int tick = 0;
+    double time = 0;
+    for (ITempo tempo : tempos) {
+      // a tempo with no length still plays its start tick at its tick rate
+      int start = tempo.getStartTick();
+      int end = Math.max(tempo.getEndTick(), start + 1);
+      if (segments + 2 > ticks.length) {
+        ticks = Arrays.copyOf(ticks, ticks.length * 2);
+        millis = Arrays.copyOf(millis, millis.length * 2);
+        rates = Arrays.copyOf(rates, rates.length * 2);
+      }
+      // the ticks between the last tempo and this one play at the regular tick rate
+      if (start > tick) {
+        ticks[segments] = tick;
+        millis[segments] = time;
+        rates[segments] = tickRate;
+        segments += 1;
+        time += (start - tick) * 1000.0 / tickRate;
+      }
+      ticks[segments] = start;
+      millis[segments] = time;
+      rates[segments] = tempo.getTempo();
+      segments += 1;
+      time += (end - start) * 1000.0 / tempo.getTempo();
+      tick = end;
+    }
+    if (segments + 1 > ticks.length) {
+      ticks = Arrays.copyOf(ticks, ticks.length + 1);
+      millis = Arrays.copyOf(millis, millis.length + 1);
+      rates = Arrays.copyOf(rates, rates.length + 1);
+    }
+    ticks[segments] = tick;
+    millis[segments] = time;
+    rates[segments] = tickRate;
+    segments += 1;
+
+    this.count = segments;
+    this.segmentTicks = ticks;
+    this.segmentMillis = millis;
+    this.segmentRates = rates;
+  }
+
+  /**
+   * Gets the tick rate of the animation outside of its tempos.
+   * @return the tick rate of this timeline, in ticks per second.
+   */
+  public int getTickRate() {
+    return tickRate;
+  }
+
+  /**
+   * Gets the time the given tick starts, measured from the start of tick 0.
+   * @param tick the tick to find the start time of.
+   * @return the start time of the tick, in milliseconds.
+   * @throws IllegalArgumentException if tick is negative
+   */
+  public double getTimeOfTick(int tick) {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Tick value cannot be negative.");
+    }
+    int segment = segmentOf(tick);
+    return segmentMillis[segment]
+        + (tick - segmentTicks[segment]) * 1000.0 / segmentRates[segment];
+  }
+
+  /**
+   * Determines if every tick from the first given tick up to the second plays at the same tick
+   * rate, so that the time of the ticks between them grows at a steady rate.
+   * @param fromTick the first tick of the range.
+   * @param toTick the tick just past the end of the range.
+   * @return true if the ticks of the range all play at one tick rate, or the range is empty.
+   * @throws IllegalArgumentException if fromTick is negative
+   */
+  public boolean isSteady(int fromTick, int toTick) {
+    if (fromTick < 0) {
+      throw new IllegalArgumentException("Tick value cannot be negative.");
+    }
+    if (toTick - 1 <= fromTick) {
+      return true;
+    }
+    int first = segmentOf(fromTick);
+    int last = segmentOf(toTick - 1);
+    for (int ii = first + 1; ii <= last; ii += 1) {
+      if (segmentRates[ii] != segmentRates[first]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the tick playing at the given time, measured from the start of tick 0, as a fractional
+   * tick that is how far through the tick the time is.
+   * @param millis the time to find the tick of, in milliseconds.
+   * @return the fractional tick playing at the time.
+   * @throws IllegalArgumentException if millis is negative
+   */
+  public double getTickAtTime(double millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("Time cannot be negative.");
+    }
+    int segment = Arrays.binarySearch(segmentMillis, 0, count, millis);
+    if (segment < 0) {
+      segment = -segment - 2;
+    }
+    return segmentTicks[segment]
+        + (millis - segmentMillis[segment]) * segmentRates[segment] / 1000.0;
+  }
+
+  /**
+   * Finds the segment the given non-negative tick plays in.
+   */
+  private int segmentOf(int tick) {
+    int segment = Arrays.binarySearch(segmentTicks, 0, count, tick);
+    if (segment < 0) {
+      segment = -segment - 2;
+    }
+    return segment;
+  }
+}
@@ -61,6 +61,29 @@ public abstract class AView implements IAnimationView {
     throw new UnsupportedOperationException("Non-visual animation views cannot update ticks.");
   }
 
+  /**
+   * Used for visual views to pass over ticks without rendering them. Unnecessary in this class,
+   * therefore suppressed here.
+   *
+   * @throws UnsupportedOperationException to suppress this method if called on non-visual view
+   */
+  @Override
+  public void advanceTick() throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("Non-visual animation views cannot advance ticks.");
+  }
+
+  /**
+   * Used for visual views to render between ticks. Unnecessary in this class, therefore
+   * suppressed here.
+   *
+   * @throws UnsupportedOperationException to suppress this method if called on non-visual view
+   */
+  @Override
+  public void renderBetweenTicks(double fraction) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("Non-visual animation views cannot render between "
+        + "ticks.");
+  }
+
   /**
    * Used for visual views to restart the animation. Unnecessary in
    * non-visual views, therefore suppressed here.
@@ -113,6 +136,17 @@ public abstract class AView implements IAnimationView {
     this.tickRate = newSpeed;
   }
 
+  /**
+   * Used for visual views to move straight to a tick. Unnecessary in non-visual views, therefore
+   * suppressed here.
+   *
+   * @throws UnsupportedOperationException to suppress this method if called on non-visual view
+   */
+  @Override
+  public void seek(int tick) {
+    throw new UnsupportedOperationException("Cannot seek in non-visual view.");
+  }
+
   /**
    * Used for visual views to get the current tick it is rendering. Unnecessary in
    * non-visual views, therefore suppressed here.
@@ -3,13 +3,11 @@ package view;
 import controller.Features;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
 import javax.swing.BoxLayout;
 import javax.swing.JFrame;
 import javax.swing.JScrollPane;
-import model.IMotion;
+import model.AnimationFrame;
 import model.Shape;
 
 /**
@@ -22,6 +20,10 @@ public abstract class AVisualAnimationViewFrame extends JFrame implements IAnima
   protected final IAnimationViewModel am;
   protected int tick;
   protected int tickRate;
+  // this view's own copies of the shapes and the frame it fills them from, made on the first
+  // render
+  private FrameShapes copies;
+  private final AnimationFrame frame;
 
   /**
    * Constructs a visual animation view with the given ViewModel as the source of information
@@ -65,6 +67,8 @@ public abstract class AVisualAnimationViewFrame extends JFrame implements IAnima
         Math.min(height + 40, 800)));
 
     this.am = am;
+    this.copies = null;
+    this.frame = new AnimationFrame(0);
 
     vavp.setOrigin(topLeftCornerX, topLeftCornerY);
     vavp.setCanvas(width, height);
@@ -75,43 +79,31 @@ public abstract class AVisualAnimationViewFrame extends JFrame implements IAnima
   }
 
   /**
-   * Returns the list of shapes that are visible in the animation in the range
-   * [startTickValue, endTickValue).
+   * Returns this view's copies of the shapes that are visible in the animation at the given tick,
+   * with each copy's position, size, and color set to its shape's state at that tick. The
+   * returned list is reused from frame to frame.
    *
-   * @param startTickValue represents the start of the tick range (inclusive)
-   * @param endTickValue represents the end of the tick range (exclusive)
-   * @return the list of shapes that are visible in the animation during the given range
+   * @param tickValue represents the tick to get the visible shapes at
+   * @return the list of shapes that are visible in the animation at the given tick
    */
-  protected List<Shape> getShapesAt(int startTickValue, int endTickValue) {
-    List<Shape> shapes = am.getOrderedShapes();
-    List<Shape> movedShapes = new ArrayList<Shape>();
-    for (Shape shape : shapes) {
-      // get motions for that shape
-      Queue<IMotion> motions = this.am.getShapeMotions(shape);
-      IMotion prevMotion = null;
-
-      // find the motion closest to the given tick range (either before or during)
-      for (IMotion m : motions) {
-        if (m.compareToTick(startTickValue) > 0) {
-          break;
-        }
-        prevMotion = m;
-      }
-
-      // if there are motions that exist for this shape during or before the given tick range...
-      if (prevMotion != null) {
-        IMotion splicedMotion = prevMotion.splice(startTickValue, endTickValue);
-        if (splicedMotion == null) {
-          // the last executed motion is before the given tick range
-          prevMotion.executeMotion(shape);
-        } else {
-          // the shape has a motion that is currently being executed in the given tick range
-          splicedMotion.executeMotion(shape);
-        }
-        movedShapes.add(shape);
-      }
+  protected List<Shape> getShapesAt(int tickValue) {
+    return getShapesAt((double) tickValue);
+  }
+
+  /**
+   * Returns this view's copies of the shapes that are visible in the animation at the given
+   * fractional tick, with each copy's position, size, and color set to its shape's state at that
+   * time, as filled into this view's frame by the model. The returned list is reused from frame
+   * to frame.
+   *
+   * @param time represents the fractional tick to get the visible shapes at
+   * @return the list of shapes that are visible in the animation at the given time
+   */
+  protected List<Shape> getShapesAt(double time) {
+    if (this.copies == null) {
+      this.copies = new FrameShapes(am.getOrderedShapes());
     }
-    return movedShapes;
+    return this.copies.show(am.getFrame(time, this.frame));
   }
 
   /**
@@ -121,7 +113,18 @@ public abstract class AVisualAnimationViewFrame extends JFrame implements IAnima
    */
   @Override
   public void render() {
-    vavp.setShapes(getShapesAt(this.tick, this.tick + 1));
+    showFrame(this.tick);
+  }
+
+  /**
+   * Shows the state of the animation at the given fractional tick on this frame's canvas,
+   * repainting the parts of it that changed.
+   *
+   * @param time represents the fractional tick to show
+   */
+  protected void showFrame(double time) {
+    vavp.setShapes(getShapesAt(time));
+    vavp.repaintChanges();
   }
 
   /**
@@ -190,14 +193,47 @@ public abstract class AVisualAnimationViewFrame extends JFrame implements IAnima
     this.tickRate = newSpeed;
   }
 
+  /**
+   * Renders this frame's components the given fraction of the way from this view's tick to the
+   * next tick.
+   */
+  @Override
+  public void renderBetweenTicks(double fraction) throws IllegalArgumentException {
+    if (fraction < 0 || fraction >= 1) {
+      throw new IllegalArgumentException("Fraction of a tick must be from 0 to 1.");
+    }
+    showFrame(this.tick + fraction);
+  }
+
   /**
    * Increases this view's tick by one, and render this frame's components accordingly.
    */
   @Override
   public void updateTick() {
+    this.advanceTick();
+    this.render();
+  }
+
+  /**
+   * Increases this view's tick by one, without rendering this frame's components.
+   */
+  @Override
+  public void advanceTick() {
     this.tick += 1;
+  }
+
+  /**
+   * Moves this view straight to the given tick, and render this frame's components accordingly.
+   * Each shape's motion at the tick is found by binary search, so seeking takes the same time
+   * anywhere in the animation.
+   */
+  @Override
+  public void seek(int tick) throws IllegalArgumentException {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Cannot seek to a negative tick.");
+    }
+    this.tick = tick;
     this.render();
-    this.repaint();
   }
 
   @Override
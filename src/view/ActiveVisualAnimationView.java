@@ -0,0 +1,141 @@
+package view;
+
+import java.awt.BorderLayout;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.List;
+import javax.swing.JScrollPane;
+import model.AnimationFrame;
+import model.Shape;
+
+/**
+ * Represents a visual animation view that draws its frames itself, instead of waiting for Swing
+ * to repaint them. A dedicated render thread draws each frame into the back buffer of a
+ * {@link BufferStrategy} and flips it onto the screen, so drawing never waits on, or holds up, the
+ * event dispatch thread. When frames are asked for faster than they can be drawn, only the latest
+ * one is drawn. The model fills each frame on the thread asking for it, and the render thread
+ * draws it through copies of the shapes of its own, so the render thread never reads or changes
+ * the model or its shapes.
+ */
+public class ActiveVisualAnimationView extends AVisualAnimationViewFrame {
+  private final Canvas canvas;
+  private final BufferStrategy strategy;
+  private final Object frameLock;
+  // the frames are passed around three ways: the thread asking for frames fills the back frame,
+  // swaps it with the pending one, and the render thread swaps the pending frame with the front
+  // one when it is ready to draw it
+  private AnimationFrame back;
+  private AnimationFrame pending;
+  private AnimationFrame front;
+  // true if the pending frame has not been drawn yet, and whether to fill its shapes
+  private boolean hasPending;
+  private boolean pendingFilled;
+  // the render thread's own copies of the shapes, made with the first frame asked for
+  private FrameShapes renderCopies;
+
+  /**
+   * Constructs an actively rendered visual animation view with the given ViewModel as the source
+   * of information about the shapes and motions in this animation, and the given tick rate, and
+   * starts its render thread.
+   * @param am represents the ViewModel for this animation
+   * @param tickRate represents the tick rate for this view, given in ticks per unit of time
+   * @throws IllegalArgumentException if provided model is null or tick rate is negative
+   */
+  public ActiveVisualAnimationView(IAnimationViewModel am, int tickRate) {
+    super(am, tickRate);
+    // draw onto a canvas of our own, in place of the panel Swing repaints, scrolled within the
+    // same window as the panel, which is no larger than 800 x 800
+    this.getContentPane().removeAll();
+    this.canvas = new Canvas();
+    this.canvas.setPreferredSize(new Dimension(am.getWidth(), am.getHeight()));
+    this.canvas.setIgnoreRepaint(true);
+    this.setIgnoreRepaint(true);
+    this.add(new JScrollPane(this.canvas), BorderLayout.CENTER);
+    this.pack();
+    this.canvas.createBufferStrategy(2);
+    this.strategy = this.canvas.getBufferStrategy();
+    this.frameLock = new Object();
+    this.back = new AnimationFrame(0);
+    this.pending = new AnimationFrame(0);
+    this.front = new AnimationFrame(0);
+    this.hasPending = false;
+    this.pendingFilled = true;
+    this.renderCopies = null;
+
+    Thread renderThread = new Thread(this::renderLoop, "animation-render");
+    renderThread.setDaemon(true);
+    renderThread.start();
+  }
+
+  /**
+   * Fills a frame with the state of the animation at the given fractional tick and hands it to
+   * the render thread, replacing any frame it has not started drawing yet.
+   */
+  @Override
+  protected void showFrame(double time) {
+    if (renderCopies == null) {
+      renderCopies = new FrameShapes(am.getOrderedShapes());
+    }
+    am.getFrame(time, back);
+    synchronized (frameLock) {
+      AnimationFrame filled = back;
+      back = pending;
+      pending = filled;
+      hasPending = true;
+      pendingFilled = vavp.filled;
+      frameLock.notifyAll();
+    }
+  }
+
+  /**
+   * Waits for each frame to be handed over and draws it, for as long as the view exists.
+   */
+  private void renderLoop() {
+    while (true) {
+      boolean filled;
+      synchronized (frameLock) {
+        while (!hasPending) {
+          try {
+            frameLock.wait();
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+        AnimationFrame next = pending;
+        pending = front;
+        front = next;
+        hasPending = false;
+        filled = pendingFilled;
+      }
+      drawFrame(renderCopies.show(front), filled);
+    }
+  }
+
+  /**
+   * Draws the given shapes, filled or outlined, into the back buffer and shows it, drawing again
+   * if the buffer's contents were lost along the way.
+   */
+  private void drawFrame(List<Shape> shapes, boolean filled) {
+    do {
+      do {
+        Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+        try {
+          g2d.setColor(Color.WHITE);
+          g2d.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+          g2d.translate(-am.getOriginX(), -am.getOriginY());
+          for (int ii = 0; ii < shapes.size(); ii += 1) {
+            VisualAnimationViewPanel.drawShape(g2d, shapes.get(ii), filled);
+          }
+        } finally {
+          g2d.dispose();
+        }
+      } while (strategy.contentsRestored());
+      strategy.show();
+    } while (strategy.contentsLost());
+    Toolkit.getDefaultToolkit().sync();
+  }
+}
@@ -0,0 +1,73 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.List;
+import model.AnimationFrame;
+import model.Ellipse;
+import model.Plus;
+import model.Rectangle;
+import model.Shape;
+
+/**
+ * Represents a view's own copy of every shape in an animation, set to the state of the shapes in
+ * a frame so that they can be drawn. Since the copies belong to the view, drawing a frame never
+ * changes the model's shapes, and a view can draw from a thread other than the one using the
+ * model.
+ */
+final class FrameShapes {
+  private final Shape[] copies;
+  // the copies visible in the last frame shown, reused from frame to frame
+  private final List<Shape> visible;
+
+  /**
+   * Constructs a copy of each of the given shapes, of the same type and name.
+   * @param shapes the shapes of the animation, in the order they were inputted.
+   */
+  FrameShapes(List<Shape> shapes) {
+    this.copies = new Shape[shapes.size()];
+    for (int ii = 0; ii < copies.length; ii += 1) {
+      copies[ii] = copyOf(shapes.get(ii));
+    }
+    this.visible = new ArrayList<>(copies.length);
+  }
+
+  /**
+   * Sets each copy to the state of its shape in the given frame.
+   * @param frame the frame to show, filled by the model this view is based on.
+   * @return the copies of the shapes visible in the frame, in the order they were inputted. The
+   *          list is reused by the next call.
+   */
+  List<Shape> show(AnimationFrame frame) {
+    visible.clear();
+    int count = Math.min(copies.length, frame.size());
+    for (int ii = 0; ii < count; ii += 1) {
+      if (!frame.isVisible(ii)) {
+        continue;
+      }
+      Shape copy = copies[ii];
+      int rgb = frame.getRGB(ii);
+      copy.setColor((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF);
+      copy.setSize(frame.getWidth(ii), frame.getHeight(ii));
+      copy.setX(frame.getX(ii));
+      copy.setY(frame.getY(ii));
+      visible.add(copy);
+    }
+    return visible;
+  }
+
+  /**
+   * Returns a new shape of the same type and name as the given shape.
+   */
+  private static Shape copyOf(Shape s) {
+    switch (s.getType()) {
+      case "rectangle":
+        return new Rectangle(s.getName());
+      case "ellipse":
+        return new Ellipse(s.getName());
+      case "plus":
+        return new Plus(s.getName());
+      default:
+        throw new IllegalStateException("Unknown shape type.");
+    }
+  }
+}
@@ -22,6 +22,23 @@ public interface IAnimationView {
    */
   void updateTick() throws IOException;
 
+  /**
+   * Increases the current tick of this view by one, following the same rules as
+   * {@link #updateTick()}, such as looping, but without rendering it. Used to pass over ticks
+   * that playback has fallen behind on.
+   */
+  void advanceTick();
+
+  /**
+   * Renders this animation the given fraction of the way from the current tick of this view to
+   * the next, without changing the current tick, so that playback can be smoother than the tick
+   * rate.
+   * @param fraction represents how far past the current tick to render, from 0 inclusive to 1
+   *                 exclusive
+   * @throws IllegalArgumentException if fraction is not from 0 inclusive to 1 exclusive
+   */
+  void renderBetweenTicks(double fraction) throws IOException;
+
   /**
    * Adds the various features (requests) that this view supports as a listener to any relevant
    * components of this view.
@@ -63,6 +80,14 @@ public interface IAnimationView {
    */
   void changeSpeed(int newSpeed) throws IllegalArgumentException;
 
+  /**
+   * Move this view straight to the given tick and render it there, without playing the ticks in
+   * between.
+   * @param tick represents the tick to move to
+   * @throws IllegalArgumentException if tick is negative
+   */
+  void seek(int tick) throws IllegalArgumentException;
+
   /**
    * Returns the current tick that this view is on.
    * @return this view's current tick
@@ -3,8 +3,11 @@ package view;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import model.AnimationFrame;
+import model.AnimationSummary;
 import model.IMotion;
 import model.Shape;
+import model.TempoTimeline;
 
 /**
  * Represents the intermediary between an animation view and mode, and the ability to pass
@@ -38,6 +41,47 @@ public interface IAnimationViewModel {
    */
   Queue<IMotion> getShapeMotions(String s);
 
+  /**
+   * Gets the motion that determines the state of the given shape at the given tick, i.e. the
+   * motion occurring during the tick or, if there is none, the last motion before it.
+   * @param s the shape to get the motion of.
+   * @param tick represents the tick value to get the motion at
+   * @return the motion at or most recently before the given tick, or null if the shape has no
+   *          motions starting at or before the tick
+   * @throws IllegalArgumentException if tick is negative or the shape is not in this animation
+   */
+  IMotion getMotionAt(Shape s, int tick) throws IllegalArgumentException;
+
+  /**
+   * Fills this model's reusable frame with the state of every shape at the given tick, in the
+   * order the shapes were inputted. The returned frame is overwritten by the next call.
+   * @param tick represents the tick value to get the state of the shapes at
+   * @return this model's frame, filled with the state of the shapes at the given tick
+   * @throws IllegalArgumentException if tick is negative
+   */
+  AnimationFrame getFrame(int tick) throws IllegalArgumentException;
+
+  /**
+   * Fills the given frame with the state of every shape at the given tick, in the order the
+   * shapes were inputted.
+   * @param tick represents the tick value to get the state of the shapes at
+   * @param frame represents the frame to fill
+   * @return the given frame, filled with the state of the shapes at the given tick
+   * @throws IllegalArgumentException if tick is negative or frame is null
+   */
+  AnimationFrame getFrame(int tick, AnimationFrame frame) throws IllegalArgumentException;
+
+  /**
+   * Fills the given frame with the state of every shape at the given fractional tick, in the
+   * order the shapes were inputted. Between whole ticks, each shape's state changes linearly from
+   * its state at the tick before to its state at the tick after.
+   * @param time represents the fractional tick to get the state of the shapes at
+   * @param frame represents the frame to fill
+   * @return the given frame, filled with the state of the shapes at the given time
+   * @throws IllegalArgumentException if time is negative or frame is null
+   */
+  AnimationFrame getFrame(double time, AnimationFrame frame) throws IllegalArgumentException;
+
   /**
    * Gets the x coordinate of the origin of this model's canvas.
    * @return the x coordinate of the origin of this model's canvas.
@@ -72,6 +116,21 @@ public interface IAnimationViewModel {
    */
   boolean isAnimationOver(int tick) throws IllegalArgumentException;
 
+  /**
+   * Gets the last tick of this animation, i.e. the end tick of the motion that ends last.
+   *
+   * @return the end tick of the last motion to end, or 0 if there are no motions
+   */
+  int getLastTick();
+
+  /**
+   * Gets the summary of this animation's timing, i.e. its first and last ticks and the span of
+   * ticks each shape moves over. The summary is computed once the animation starts.
+   *
+   * @return the summary of this animation
+   */
+  AnimationSummary getSummary();
+
   /**
    * Finds the next occuring start or end tick of a motion in this animation from the given tick
    * (inclusive). E.g. if there is a motion occuring from t=3 to t=6 and a motion occuring
@@ -86,4 +145,27 @@ public interface IAnimationViewModel {
    * @throws IllegalArgumentException if tick is negative
    */
   int findNextTick(int tick) throws IllegalArgumentException;
+
+  /**
+   * Finds the last start or end tick of a motion in this animation at or before the given tick.
+   * E.g. if there is a motion occuring from t=3 to t=6 and a motion occuring from t=5 to t=7,
+   * findPreviousTick(5) would return 5, and findPreviousTick(4) would return 3. If there are no
+   * motions occuring during or before the given tick, the given tick value is returned.
+   *
+   * @param tick represents the tick with which to find the last start or end of a motion
+   * @return the last start or end tick of a motion, or the given tick value if there are no
+   *        motions before the given tick
+   * @throws IllegalArgumentException if tick is negative
+   */
+  int findPreviousTick(int tick) throws IllegalArgumentException;
+
+  /**
+   * Returns the timeline of this animation played at the given tick rate, which gives the time
+   * each tick starts with this animation's tempos applied, and the tick playing at any time.
+   * @param tickRate represents the tick rate outside of this animation's tempos, given in ticks
+   *                 per second
+   * @return the timeline of this animation at the tick rate
+   * @throws IllegalArgumentException if tickRate is less than 1
+   */
+  TempoTimeline getTimeline(int tickRate) throws IllegalArgumentException;
 }
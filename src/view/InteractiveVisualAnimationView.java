@@ -8,6 +8,7 @@ import javax.swing.BoxLayout;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JSlider;
 
 /**
  * Represents a visual animation view, where all shapes and motions are rendered through
@@ -31,9 +32,12 @@ public class InteractiveVisualAnimationView extends AVisualAnimationViewFrame {
   protected JButton resumeButton;
   protected JButton loopButton;
   protected JButton discreteButton;
+  protected JSlider tickSlider;
 
   private boolean loopingEnabled;
   private boolean discreteEnabled;
+  // true while the view itself moves the slider, so that only the user's moves trigger a seek
+  private boolean movingSlider;
 
   /**
    * Constructs a visual animation view frame with the given ViewModel as the source of information
@@ -73,6 +77,10 @@ public class InteractiveVisualAnimationView extends AVisualAnimationViewFrame {
     toggleFill = new JButton("toggle fill");
     buttonPanel.add(toggleFill);
 
+    tickSlider = new JSlider(0, Math.max(1, av.getLastTick()), 0);
+    this.add(tickSlider, BorderLayout.NORTH);
+    this.movingSlider = false;
+
     JPanel infoPanel = new JPanel();
     infoPanel.setLayout(new BoxLayout(infoPanel, BoxLayout.PAGE_AXIS));
     buttonPanel.add(infoPanel);
@@ -131,10 +139,15 @@ public class InteractiveVisualAnimationView extends AVisualAnimationViewFrame {
     loopButton.addActionListener(evt -> features.enableDisableLooping());
     discreteButton.addActionListener(evt -> features.enableDisableDiscrete());
     toggleFill.addActionListener(evt -> features.toggleFill());
+    tickSlider.addChangeListener(evt -> {
+      if (!movingSlider) {
+        features.seekToTick(tickSlider.getValue());
+      }
+    });
   }
 
   @Override
-  public void updateTick() {
+  public void advanceTick() {
     this.tick += 1;
     if (loopingEnabled && this.am.isAnimationOver(this.tick)) {
       this.restart();
@@ -142,9 +155,33 @@ public class InteractiveVisualAnimationView extends AVisualAnimationViewFrame {
     if (this.discreteEnabled) {
       this.tick = this.am.findNextTick(this.tick);
     }
+  }
+
+  @Override
+  public void render() {
+    this.showTick();
+    super.render();
+  }
+
+  /**
+   * Shows this view's current tick on its tick label and slider. The slider is left alone while
+   * the user is dragging it, so playback does not pull it back from under them.
+   */
+  private void showTick() {
     this.tickLabel.setText("Current tick: " + this.tick);
-    this.render();
-    this.repaint();
+    if (this.tickSlider.getValueIsAdjusting()) {
+      return;
+    }
+    this.movingSlider = true;
+    this.tickSlider.setValue(this.tick);
+    this.movingSlider = false;
+  }
+
+  @Override
+  public void renderBetweenTicks(double fraction) {
+    this.showTick();
+    // discrete playback only shows whole ticks
+    super.renderBetweenTicks(this.discreteEnabled ? 0 : fraction);
   }
 
   @Override
@@ -186,6 +223,7 @@ public class InteractiveVisualAnimationView extends AVisualAnimationViewFrame {
   @Override
   public void toggleFill() {
     this.vavp.changeFill();
+    this.vavp.repaintChanges();
   }
 
   @Override
@@ -0,0 +1,149 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+import model.AnimationFrame;
+import model.Shape;
+
+/**
+ * The PNGAnimationView: This view renders every tick of an animation, from tick 0 to its last
+ * tick, as a PNG image in a directory, without needing a display. Frames are drawn the same way
+ * as in the visual views, and since the animation no longer changes once started, frames are
+ * drawn and encoded in parallel by a pool of workers, each with its own copy of the shapes. The
+ * state of the shapes in each frame is filled in from the model before the frame is handed to a
+ * worker, so the workers never read the model. Only a few frames per worker are in progress at a
+ * time, each in one of a fixed set of reused frames, and frames are written in tick order.
+ */
+public class PNGAnimationView extends AView {
+  // how many frames each worker may have in progress, bounding the memory used by finished
+  // frames waiting to be written
+  private static final int FRAMES_PER_WORKER = 2;
+
+  private final Path directory;
+  private final int workers;
+
+  /**
+   * Constructs a PNGAnimationView based on the given model and tick rate, that writes its
+   * frames to the given directory using one worker per available processor.
+   * @param am the model to base the animation on.
+   * @param tickRate the tick rate of the animation.
+   * @param directory the directory to write the frames to, created if it does not exist.
+   * @throws IllegalArgumentException if directory is null
+   */
+  public PNGAnimationView(IAnimationViewModel am, int tickRate, Path directory) {
+    this(am, tickRate, directory, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs a PNGAnimationView based on the given model and tick rate, that writes its
+   * frames to the given directory using the given number of workers.
+   * @param am the model to base the animation on.
+   * @param tickRate the tick rate of the animation.
+   * @param directory the directory to write the frames to, created if it does not exist.
+   * @param workers the number of frames to draw at once.
+   * @throws IllegalArgumentException if directory is null or workers is less than 1
+   */
+  public PNGAnimationView(IAnimationViewModel am, int tickRate, Path directory, int workers) {
+    super(am, tickRate);
+    if (directory == null) {
+      throw new IllegalArgumentException("View cannot be constructed with null parameters.");
+    }
+    if (workers < 1) {
+      throw new IllegalArgumentException("View must have at least one worker.");
+    }
+    this.directory = directory;
+    this.workers = workers;
+  }
+
+  /**
+   * Renders every tick of this animation as a PNG file named frame, followed by its tick padded
+   * to five digits, in this view's directory.
+   * @throws IOException if a frame cannot be encoded or written.
+   */
+  @Override
+  public void render() throws IOException {
+    Files.createDirectories(directory);
+    List<Shape> shapes = am.getOrderedShapes();
+    int lastTick = am.getLastTick();
+
+    ExecutorService pool = Executors.newFixedThreadPool(workers);
+    ThreadLocal<FrameRenderer> renderers =
+        ThreadLocal.withInitial(() -> new FrameRenderer(shapes));
+    // a frame is only reused once the tick last filled into it has been written, since no more
+    // frames than this are ever in progress
+    AnimationFrame[] inProgress = new AnimationFrame[workers * FRAMES_PER_WORKER];
+    for (int ii = 0; ii < inProgress.length; ii += 1) {
+      inProgress[ii] = new AnimationFrame(shapes.size());
+    }
+    Queue<Future<byte[]>> frames = new ArrayDeque<>();
+    int nextTick = 0;
+    try {
+      for (int tick = 0; tick <= lastTick; tick += 1) {
+        while (nextTick <= lastTick && nextTick - tick < workers * FRAMES_PER_WORKER) {
+          int frameTick = nextTick;
+          AnimationFrame frame =
+              am.getFrame(frameTick, inProgress[frameTick % inProgress.length]);
+          frames.add(pool.submit(() -> renderers.get().render(frame)));
+          nextTick += 1;
+        }
+        byte[] png = frames.remove().get();
+        Files.write(directory.resolve(String.format("frame%05d.png", tick)), png);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Rendering frames was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Error rendering frame.", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Draws frames of this animation for one worker, into its own image using its own copies of
+   * the animation's shapes.
+   */
+  private final class FrameRenderer {
+    private final FrameShapes copies;
+    private final BufferedImage image;
+    private final Graphics2D g2d;
+    private final ByteArrayOutputStream encoded;
+
+    private FrameRenderer(List<Shape> shapes) {
+      this.copies = new FrameShapes(shapes);
+      this.image = new BufferedImage(Math.max(1, width), Math.max(1, height),
+          BufferedImage.TYPE_INT_RGB);
+      this.g2d = image.createGraphics();
+      VisualAnimationViewPanel.moveToCanvas(g2d, topLeftCornerX, topLeftCornerY, width, height);
+      this.encoded = new ByteArrayOutputStream();
+    }
+
+    /**
+     * Draws the given frame and returns it encoded as a PNG.
+     */
+    private byte[] render(AnimationFrame frame) throws IOException {
+      g2d.setColor(Color.WHITE);
+      g2d.fillRect(topLeftCornerX, topLeftCornerY, width, height);
+      List<Shape> visible = copies.show(frame);
+      for (int ii = 0; ii < visible.size(); ii += 1) {
+        VisualAnimationViewPanel.drawShape(g2d, visible.get(ii), true);
+      }
+      encoded.reset();
+      ImageIO.write(image, "png", encoded);
+      return encoded.toByteArray();
+    }
+  }
+}
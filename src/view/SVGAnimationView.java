@@ -1,20 +1,45 @@
 package view;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import model.Ellipse;
 import model.IMotion;
 import model.Plus;
 import model.Rectangle;
 import model.Shape;
+import model.TempoTimeline;
 
 /**
  * The SVGAnimationView: This view renders an animation as a .svg file that can then be
- * played in a browser to show its visual representation.
+ * played in a browser to show its visual representation. Large animations can be rendered by
+ * several workers at once, with the same output. The time of each tick is taken from the model's
+ * timeline, so its tempos slow down and speed up the file as they do the visual views.
  */
 public class SVGAnimationView extends AView {
+  // how many shapes' tags each worker may have in progress or waiting to be appended, bounding
+  // the memory used by the buffers
+  private static final int BLOCKS_PER_WORKER = 4;
+
+  // the attributes animated for each kind of shape, in the order their tags are written
+  private static final String[] RECTANGLE_ATTRIBUTES = {"x", "y", "width", "height", "fill"};
+  private static final String[] ELLIPSE_ATTRIBUTES = {"cx", "cy", "rx", "ry", "fill"};
+  private static final String[] PLUS_ATTRIBUTES = {"points", "fill"};
+  private static final String[] OTHER_ATTRIBUTES = {"fill"};
+
   private final Appendable appendable;
+  private final int workers;
+  private final boolean coalesce;
+  // the timeline giving the time each tick starts, with the animation's tempos applied, taken
+  // from the model at the start of each render
+  private TempoTimeline timeline;
 
   /**
    * Constructs an SVGAnimationView based on the given model and tick rate, using a
@@ -35,212 +60,466 @@ public class SVGAnimationView extends AView {
    * @throws IllegalArgumentException if appendable parameter is null
    */
   public SVGAnimationView(IAnimationViewModel am, int tickRate, Appendable ap) {
+    this(am, tickRate, ap, 1);
+  }
+
+  /**
+   * Constructs an SVGAnimationView based on the given model, tick rate and appendable (for the
+   * text output), that writes the tags of its shapes using the given number of workers.
+   * @param am the model to base the animation off of.
+   * @param tickRate the tick rate of the animation.
+   * @param ap the appendable to append the text output onto.
+   * @param workers the number of shapes to write the tags of at once.
+   * @throws IllegalArgumentException if appendable parameter is null or workers is less than 1
+   */
+  public SVGAnimationView(IAnimationViewModel am, int tickRate, Appendable ap, int workers) {
+    this(am, tickRate, ap, workers, false);
+  }
+
+  /**
+   * Constructs an SVGAnimationView based on the given model, tick rate and appendable (for the
+   * text output), that writes the tags of its shapes using the given number of workers, and may
+   * merge the animate tags of back to back motions, for a smaller file that plays the same.
+   * @param am the model to base the animation off of.
+   * @param tickRate the tick rate of the animation.
+   * @param ap the appendable to append the text output onto.
+   * @param workers the number of shapes to write the tags of at once.
+   * @param coalesce whether to merge the animate tags of back to back motions.
+   * @throws IllegalArgumentException if appendable parameter is null or workers is less than 1
+   */
+  public SVGAnimationView(IAnimationViewModel am, int tickRate, Appendable ap, int workers,
+      boolean coalesce) {
     super(am, tickRate);
     if (ap == null) {
       throw new IllegalArgumentException("View cannot be constructed with null parameters.");
     }
+    if (workers < 1) {
+      throw new IllegalArgumentException("View must have at least one worker.");
+    }
     this.appendable = ap;
+    this.workers = workers;
+    this.coalesce = coalesce;
   }
 
   /**
-   * Renders this SVGAnimation as an SVG file.
+   * Renders this SVGAnimation as an SVG file. Tags are written through an {@link TextWriter}, so
+   * the appendable receives the file in large blocks rather than tag by tag. With more than one
+   * worker, the tags of each shape are written into a buffer of their own on a pool of workers,
+   * since they depend only on that shape and its motions, and the buffers are appended in the
+   * order of {@link IAnimationViewModel#getOrderedShapes()}, so the file is the same either way.
    * @throws IOException if appending text output fails.
    */
   @Override
   public void render() throws IOException {
-    this.appendable.append(String.format("<svg viewBox = \"%d %d %d %d\""
-        + " version=\"1.1\" xmlns=\"http://www.w3.org/2000/svg\">\n", this.topLeftCornerX,
-        this.topLeftCornerY, this.width, this.height));
+    this.timeline = am.getTimeline(this.tickRate);
+    TextWriter out = new TextWriter(this.appendable);
+    out.text("<svg viewBox = \"").number(this.topLeftCornerX).text(' ')
+        .number(this.topLeftCornerY).text(' ').number(this.width).text(' ').number(this.height)
+        .text("\" version=\"1.1\" xmlns=\"http://www.w3.org/2000/svg\">\n");
     List<Shape> shapes = am.getOrderedShapes();
-    for (Shape s : shapes) {
-      String shapeString = "";
-      String endTag = "";
-
-      Queue<IMotion> motions = am.getShapeMotions(s);
-      IMotion firstMotion = motions.peek();
-
-      // use the first Motion to fill in details for the shape
-      if (firstMotion != null) {
-        if (s instanceof Rectangle) {
-          shapeString = String.format("<rect id=\"%s\" x=\"%.02f\" y=\"%.02f\" width=\"%.02f\" "
-                  + "height=\"%.02f\" fill=\"rgb(%d,%d,%d)\" visibility=\"hidden\" >",
-              s.getName(),
-              firstMotion.getStartX(), firstMotion.getStartY(),
-              firstMotion.getStartW(), firstMotion.getStartH(),
-              firstMotion.getStartRGB()[0], firstMotion.getStartRGB()[1],
-              firstMotion.getStartRGB()[2]);
-          endTag = "</rect>";
-        } else if (s instanceof Ellipse) {
-          shapeString = String.format("<ellipse id=\"%s\" cx=\"%.02f\" cy=\"%.02f\" rx=\"%.02f\" "
-                  + "ry=\"%.02f\" fill=\"rgb(%d,%d,%d)\" visibility=\"hidden\" >", s.getName(),
-              firstMotion.getStartX() + (firstMotion.getStartW() / 2),
-              firstMotion.getStartY() + (firstMotion.getStartH() / 2),
-              firstMotion.getStartW() / 2, firstMotion.getStartH() / 2,
-              firstMotion.getStartRGB()[0], firstMotion.getStartRGB()[1],
-              firstMotion.getStartRGB()[2]);
-          endTag = "</ellipse>";
-        }
-        else if (s instanceof Plus) {
-          shapeString = String.format("<polygon id=\"%s\" points=\"", s.getName());
-          shapeString = shapeString + getPoints(s, (int)firstMotion.getStartX(),
-              (int)firstMotion.getStartY(),
-              firstMotion.getStartW(),
-              firstMotion.getStartH()) + "\"";
-          shapeString = shapeString + String.format(
-              " fill=\"rgb(%d,%d,%d)\" visibility=\"hidden\" >",
-              firstMotion.getStartRGB()[0], firstMotion.getStartRGB()[1],
-              firstMotion.getStartRGB()[2])
-          ;
-          endTag = "</polygon>";
-        }
-        appendable.append(shapeString).append("\n");
-
-        appendable.append(String.format("<animate attributeType=\"xml\" "
-                + "begin=\"0.0ms\" dur=\"%.1fms\" "
-                + "attributeName=\"visibility\" from=\"hidden\" to=\"visible\" fill=\"freeze\" />",
-            (float)firstMotion.getStartTick() / this.tickRate * 1000));
+    if (workers > 1 && shapes.size() > 1) {
+      renderInParallel(out, shapes);
+    } else {
+      for (Shape s : shapes) {
+        shapeSVGTags(out, s);
       }
+    }
+    out.text("</svg>");
+    out.flush();
+  }
 
-      for (IMotion m : motions) {
-        motionSVGTag(s, m);
+  /**
+   * Writes the tags of the given shapes on a pool of this view's workers, each into a buffer of
+   * its own, and appends the buffers in order. Only a few buffers per worker are in progress or
+   * waiting at a time.
+   * @param out the writer to append the buffers with.
+   * @param shapes the shapes to write the tags of, in order.
+   * @throws IOException if appending the output fails, or writing a shape's tags failed.
+   */
+  private void renderInParallel(TextWriter out, List<Shape> shapes) throws IOException {
+    ExecutorService pool = Executors.newFixedThreadPool(workers);
+    Queue<Future<StringBuilder>> blocks = new ArrayDeque<>();
+    int next = 0;
+    try {
+      for (int ii = 0; ii < shapes.size(); ii += 1) {
+        while (next < shapes.size() && next - ii < workers * BLOCKS_PER_WORKER) {
+          Shape s = shapes.get(next);
+          blocks.add(pool.submit(() -> {
+            StringBuilder block = new StringBuilder();
+            TextWriter blockOut = new TextWriter(block);
+            shapeSVGTags(blockOut, s);
+            blockOut.flush();
+            return block;
+          }));
+          next += 1;
+        }
+        out.text(blocks.remove().get());
       }
-      appendable.append(endTag).append("\n");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Rendering shapes was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Error rendering shape.", e.getCause());
+    } finally {
+      pool.shutdownNow();
     }
-    appendable.append("</svg>");
   }
 
   /**
-   * Gets the string representation of points of a polygon given the x and y positions of it,
-   * as well as its width and height.
-   * @param s the shape to get the points for.
-   * @param x the x position of the shape.
-   * @param y the y position of the shape.
-   * @param width the width of the shape.
-   * @param height the height of the shape.
-   * @return the string representation of a polygon's points
+   * Writes the tag of the given shape, with the animate tags of all of its motions inside.
+   * @param out the writer to write the tags with.
+   * @param s the shape to write the tags of.
+   * @throws IOException if appending the output fails.
    */
-  private String getPoints(Shape s, int x, int y, double width, double height) {
-    int[] xs = s.makeXs(x, (int)width);
-    int[] ys = s.makeYs(y, (int)height);
+  private void shapeSVGTags(TextWriter out, Shape s) throws IOException {
+    String endTag = "";
 
-    String finalString = "";
-    for (int ii = 0; ii < xs.length; ii++) {
-      if (ii != 0) {
-        finalString = finalString + " " + Integer.toString(xs[ii]) + "," + Integer.toString(ys[ii]);
+    Queue<IMotion> motions = am.getShapeMotions(s);
+    IMotion firstMotion = motions.peek();
+
+    // use the first Motion to fill in details for the shape
+    if (firstMotion != null) {
+      if (s instanceof Rectangle) {
+        out.text("<rect id=\"").text(s.getName())
+            .text("\" x=\"").hundredths(firstMotion.getStartX())
+            .text("\" y=\"").hundredths(firstMotion.getStartY())
+            .text("\" width=\"").hundredths(firstMotion.getStartW())
+            .text("\" height=\"").hundredths(firstMotion.getStartH()).text('"');
+        endTag = "</rect>";
+      } else if (s instanceof Ellipse) {
+        out.text("<ellipse id=\"").text(s.getName())
+            .text("\" cx=\"").hundredths(firstMotion.getStartX() + (firstMotion.getStartW() / 2))
+            .text("\" cy=\"").hundredths(firstMotion.getStartY() + (firstMotion.getStartH() / 2))
+            .text("\" rx=\"").hundredths(firstMotion.getStartW() / 2)
+            .text("\" ry=\"").hundredths(firstMotion.getStartH() / 2).text('"');
+        endTag = "</ellipse>";
       }
-      else {
-        finalString = Integer.toString(xs[ii]) + "," + Integer.toString(ys[ii]);
+      else if (s instanceof Plus) {
+        out.text("<polygon id=\"").text(s.getName()).text("\" points=\"");
+        writeValue(out, "points", attributeValue(s, "points", firstMotion, false));
+        out.text('"');
+        endTag = "</polygon>";
       }
+      if (!endTag.isEmpty()) {
+        int[] rgb = firstMotion.getStartRGB();
+        out.text(" fill=\"rgb(").number(rgb[0]).text(',').number(rgb[1]).text(',')
+            .number(rgb[2]).text(")\" visibility=\"hidden\" >");
+      }
+      out.text('\n');
+
+      out.text("<animate attributeType=\"xml\" begin=\"0.0ms\" dur=\"")
+          .tenths(timeline.getTimeOfTick(firstMotion.getStartTick()))
+          .text("ms\" attributeName=\"visibility\" from=\"hidden\" to=\"visible\" "
+              + "fill=\"freeze\" />");
     }
-    return finalString;
+
+    if (coalesce) {
+      coalescedSVGTags(out, s, new ArrayList<>(motions));
+    } else {
+      for (IMotion m : motions) {
+        motionSVGTag(out, s, m);
+      }
+    }
+    out.text(endTag).text('\n');
   }
 
   /**
-   * Adds a motions svg animate tag translation to the svg output file.
+   * Adds a motion's svg animate tag translation to the svg output, one tag for each attribute of
+   * the shape that the motion changes.
+   * @param out the writer to write the tags with.
    * @param s the shape that the given motion is being applied to.
    * @param m the motion the given shape is executing.
-   * @throws IOException if appending the string output fails.
+   * @throws IOException if appending the output fails.
    */
-  private void motionSVGTag(Shape s, IMotion m) throws IOException {
-    boolean[] changes = m.bitwiseChangeList();
-    double timeStart = (float)m.getStartTick() / tickRate * 1000;
-    double timeEnd = (float)m.getEndTick() / tickRate * 1000;
+  private void motionSVGTag(TextWriter out, Shape s, IMotion m) throws IOException {
+    double timeStart = timeline.getTimeOfTick(m.getStartTick());
+    double timeEnd = timeline.getTimeOfTick(m.getEndTick());
     double dur = timeEnd - timeStart;
-    if (s instanceof Rectangle) {
-      // change in x
-      if (changes[0]) {
-        appendable.append(animateTag(timeStart, dur, "x",
-            (int)m.getStartX(), (int)m.getEndX()));
-      }
-      // change in y
-      if (changes[1]) {
-        appendable.append(animateTag(timeStart, dur, "y",
-            (int)m.getStartY(), (int)m.getEndY()));
-      }
-      // change in width
-      if (changes[2]) {
-        appendable.append(animateTag(timeStart, dur, "width",
-            (int)m.getStartW(), (int)m.getEndW()));
+    boolean[] changes = m.bitwiseChangeList();
+    for (String attribute : attributesOf(s)) {
+      if (changes(attribute, changes)) {
+        animateTag(out, timeStart, dur, attribute, attributeValue(s, attribute, m, false),
+            attributeValue(s, attribute, m, true));
       }
-      // change in height
-      if (changes[3]) {
-        appendable.append(animateTag(timeStart, dur, "height", (int) m.getStartH(),
-            (int) m.getEndH()));
+    }
+  }
+
+  /**
+   * Adds the animate tags of all of the given motions to the svg output, attribute by attribute,
+   * merging each run of motions that change an attribute, each picking up where the one before
+   * left it, into one tag. A run that changes the attribute at a steady rate becomes a single
+   * from and to tag, and any other run becomes a tag listing the values at each point the rate
+   * changes, with their keyTimes.
+   * @param out the writer to write the tags with.
+   * @param s the shape that the given motions are being applied to.
+   * @param motions the motions of the shape, sorted by start tick.
+   * @throws IOException if appending the output fails.
+   */
+  private void coalescedSVGTags(TextWriter out, Shape s, List<IMotion> motions)
+      throws IOException {
+    List<IMotion> run = new ArrayList<>();
+    for (String attribute : attributesOf(s)) {
+      run.clear();
+      for (IMotion m : motions) {
+        if (!changes(attribute, m.bitwiseChangeList())) {
+          continue;
+        }
+        if (!run.isEmpty() && !continues(s, attribute, run.get(run.size() - 1), m)) {
+          runSVGTag(out, s, attribute, run);
+          run.clear();
+        }
+        run.add(m);
       }
-    } else if (s instanceof Ellipse) {
-      // change in x
-      if (changes[0]) {
-        appendable.append(animateTag(timeStart, dur, "cx",
-            (int)m.getStartX() + ((int)m.getStartW() / 2),
-            (int)m.getEndX() + ((int)m.getEndW() / 2)));
+      if (!run.isEmpty()) {
+        runSVGTag(out, s, attribute, run);
       }
-      // change in y
-      if (changes[1]) {
-        appendable.append(animateTag(timeStart, dur, "cy",
-            (int)m.getStartY() + ((int) m.getStartH() / 2),
-            (int)m.getEndY() + (int) m.getEndH() / 2));
+    }
+  }
+
+  /**
+   * Determines if the second motion picks up the given attribute exactly where the first left
+   * it, whether at the tick the first ends or after a stretch where the attribute holds still.
+   * Motions that take no time never continue or are continued, since they cannot be given a
+   * keyTime of their own.
+   */
+  private boolean continues(Shape s, String attribute, IMotion first, IMotion second) {
+    return first.getEndTick() <= second.getStartTick()
+        && first.getStartTick() < first.getEndTick()
+        && second.getStartTick() < second.getEndTick()
+        && Arrays.equals(attributeValue(s, attribute, first, true),
+            attributeValue(s, attribute, second, false));
+  }
+
+  /**
+   * Writes one animate tag for a run of motions that change the given attribute, holding the
+   * attribute still between motions, and leaving out the points where the attribute keeps
+   * changing at the same rate.
+   * @param out the writer to write the tag with.
+   * @param s the shape that the given motions are being applied to.
+   * @param attribute the attribute of the shape being changed.
+   * @param run the motions, each starting with the value the one before it ends with.
+   * @throws IOException if appending the output fails.
+   */
+  private void runSVGTag(TextWriter out, Shape s, String attribute, List<IMotion> run)
+      throws IOException {
+    // each motion has a point at its end, and one at its start if the attribute held still first
+    int[] ticks = new int[run.size() * 2];
+    int[][] values = new int[run.size() * 2][];
+    int count = 0;
+    for (IMotion m : run) {
+      if (count == 0 || ticks[count - 1] < m.getStartTick()) {
+        count = addPoint(ticks, values, count, m.getStartTick(),
+            attributeValue(s, attribute, m, false));
       }
-      // change in width
-      if (changes[2]) {
-        appendable.append(animateTag(timeStart, dur, "rx",
-            (int)m.getStartW() / 2, (int)m.getEndW() / 2));
+      count = addPoint(ticks, values, count, m.getEndTick(),
+          attributeValue(s, attribute, m, true));
+    }
+
+    double timeStart = timeline.getTimeOfTick(ticks[0]);
+    double timeEnd = timeline.getTimeOfTick(ticks[count - 1]);
+    double dur = timeEnd - timeStart;
+    if (count == 2) {
+      animateTag(out, timeStart, dur, attribute, values[0], values[1]);
+      return;
+    }
+    animateStart(out, timeStart, dur, attribute);
+    out.text(" values=\"");
+    for (int ii = 0; ii < count; ii += 1) {
+      if (ii != 0) {
+        out.text(';');
       }
-      // change in height
-      if (changes[3]) {
-        appendable.append(animateTag(timeStart, dur, "ry", (int) m.getStartH() / 2,
-            (int) m.getEndH() / 2));
+      writeValue(out, attribute, values[ii]);
+    }
+    out.text("\" keyTimes=\"");
+    for (int ii = 0; ii < count; ii += 1) {
+      if (ii != 0) {
+        out.text(';');
       }
+      out.fraction((timeline.getTimeOfTick(ticks[ii]) - timeStart) / dur);
+    }
+    out.text("\" fill=\"freeze\" />\n");
+  }
+
+  /**
+   * Adds the given point after the first count points, replacing the last of them if it lies on
+   * the line between the one before it and the given point and the ticks between them all play
+   * at one tick rate, since it adds nothing to the animation, and returns the new number of
+   * points.
+   */
+  private int addPoint(int[] ticks, int[][] values, int count, int tick, int[] value) {
+    if (count >= 2 && timeline.isSteady(ticks[count - 2], tick)
+        && steady(ticks[count - 2], values[count - 2], ticks[count - 1], values[count - 1], tick,
+        value)) {
+      count -= 1;
     }
-    else if (s instanceof Plus) {
-      // change in x, y, width, or height
-      if (changes[0] || changes[1] || changes[2]) {
-        appendable.append(animateTag(timeStart, dur, "points",
-            getPoints(s, (int)m.getStartX(), (int)m.getStartY(), m.getStartW(), m.getStartH()),
-            getPoints(s, (int)m.getEndX(), (int)m.getEndY(), m.getEndW(), m.getEndH())));
+    ticks[count] = tick;
+    values[count] = value;
+    return count + 1;
+  }
+
+  /**
+   * Determines if values change at the same rate from the first tick to the second as from the
+   * second to the third, for every part of the values.
+   */
+  private static boolean steady(int tick1, int[] value1, int tick2, int[] value2, int tick3,
+      int[] value3) {
+    for (int ii = 0; ii < value1.length; ii += 1) {
+      if ((long) (value2[ii] - value1[ii]) * (tick3 - tick2)
+          != (long) (value3[ii] - value2[ii]) * (tick2 - tick1)) {
+        return false;
       }
+    }
+    return true;
+  }
 
+  /**
+   * Gets the names of the attributes of the given shape that motions animate, in the order their
+   * tags are written.
+   */
+  private static String[] attributesOf(Shape s) {
+    if (s instanceof Rectangle) {
+      return RECTANGLE_ATTRIBUTES;
+    } else if (s instanceof Ellipse) {
+      return ELLIPSE_ATTRIBUTES;
+    } else if (s instanceof Plus) {
+      return PLUS_ATTRIBUTES;
     }
-    // change in color
-    if (changes[4]) {
-      appendable.append(String.format("<animate attributeType=\"xml\" begin=\"%.1fms\" "
-              + "dur=\"%.1fms\" "
-              + "attributeName=\"fill\" from=\"rgb(%d, %d, %d)\" "
-              + "to=\"rgb(%d, %d, %d)\" fill=\"freeze\" />\n", timeStart, dur, m.getStartRGB()[0],
-          m.getStartRGB()[1], m.getStartRGB()[2], m.getEndRGB()[0], m.getEndRGB()[1],
-          m.getEndRGB()[2]));
+    return OTHER_ATTRIBUTES;
+  }
+
+  /**
+   * Determines if a motion with the given changes, as given by its bitwiseChangeList, changes the
+   * given attribute.
+   */
+  private static boolean changes(String attribute, boolean[] changes) {
+    switch (attribute) {
+      case "x":
+      case "cx":
+        return changes[0];
+      case "y":
+      case "cy":
+        return changes[1];
+      case "width":
+      case "rx":
+        return changes[2];
+      case "height":
+      case "ry":
+        return changes[3];
+      case "points":
+        // change in x, y, or width
+        return changes[0] || changes[1] || changes[2];
+      case "fill":
+        return changes[4];
+      default:
+        throw new IllegalStateException("Unknown attribute.");
     }
   }
 
   /**
-   * Creates the string representation of a motion in SVG's "animate" tag format.
+   * Gets the value of the given attribute of a shape at the start or end of the given motion, as
+   * whole numbers: one for a position or size, the red, green, and blue of a fill, and each x and
+   * y in turn for the points of a polygon.
+   * @param s the shape that the given motion is being applied to.
+   * @param attribute the attribute to get the value of.
+   * @param m the motion the given shape is executing.
+   * @param end whether to get the value at the end of the motion, rather than its start.
+   * @return the value of the attribute.
+   */
+  private static int[] attributeValue(Shape s, String attribute, IMotion m, boolean end) {
+    int x = (int) (end ? m.getEndX() : m.getStartX());
+    int y = (int) (end ? m.getEndY() : m.getStartY());
+    int w = (int) (end ? m.getEndW() : m.getStartW());
+    int h = (int) (end ? m.getEndH() : m.getStartH());
+    switch (attribute) {
+      case "x":
+        return new int[] {x};
+      case "y":
+        return new int[] {y};
+      case "width":
+        return new int[] {w};
+      case "height":
+        return new int[] {h};
+      case "cx":
+        return new int[] {x + w / 2};
+      case "cy":
+        return new int[] {y + h / 2};
+      case "rx":
+        return new int[] {w / 2};
+      case "ry":
+        return new int[] {h / 2};
+      case "points":
+        int[] xs = s.makeXs(x, w);
+        int[] ys = s.makeYs(y, h);
+        int[] points = new int[xs.length * 2];
+        for (int ii = 0; ii < xs.length; ii += 1) {
+          points[ii * 2] = xs[ii];
+          points[ii * 2 + 1] = ys[ii];
+        }
+        return points;
+      case "fill":
+        return (end ? m.getEndRGB() : m.getStartRGB()).clone();
+      default:
+        throw new IllegalStateException("Unknown attribute.");
+    }
+  }
+
+  /**
+   * Writes a value of the given attribute the way SVG expects it: a fill as an rgb color, points
+   * as x,y pairs separated by spaces, and anything else as a single number.
+   * @param out the writer to write the value with.
+   * @param attribute the attribute the value is of.
+   * @param value the value, as given by attributeValue.
+   * @throws IOException if appending the output fails.
+   */
+  private static void writeValue(TextWriter out, String attribute, int[] value)
+      throws IOException {
+    if (attribute.equals("fill")) {
+      out.text("rgb(").number(value[0]).text(", ").number(value[1]).text(", ").number(value[2])
+          .text(')');
+    } else if (attribute.equals("points")) {
+      for (int ii = 0; ii < value.length; ii += 2) {
+        if (ii != 0) {
+          out.text(' ');
+        }
+        out.number(value[ii]).text(',').number(value[ii + 1]);
+      }
+    } else {
+      out.number(value[0]);
+    }
+  }
+
+  /**
+   * Writes a motion in SVG's "animate" tag format.
+   * @param out the writer to write the tag with.
    * @param startTime the start time that a motion occurred.
    * @param duration how long the motion occurred for.
    * @param attributeName the name of the attribute of the shape that is being modified.
    * @param from the starting value of the attribute being changed.
    * @param to the final value of the attribute being changed.
-   * @return
+   * @throws IOException if appending the output fails.
    */
-  private String animateTag(double startTime, double duration, String attributeName,
-      int from, int to) {
-    return String.format("<animate attributeType=\"xml\" begin=\"%.1fms\" dur=\"%.1fms\" "
-        + "attributeName=\"%s\" from=\"%d\" to=\"%d\" fill=\"freeze\" />\n",
-        startTime, duration, attributeName, from, to);
+  private static void animateTag(TextWriter out, double startTime, double duration,
+      String attributeName, int[] from, int[] to) throws IOException {
+    animateStart(out, startTime, duration, attributeName);
+    out.text(" from=\"");
+    writeValue(out, attributeName, from);
+    out.text("\" to=\"");
+    writeValue(out, attributeName, to);
+    out.text("\" fill=\"freeze\" />\n");
   }
 
   /**
-   * Creates the string representation of a motion in SVG's "animate" tag format, given
-   * Strings as from and to motions.
+   * Writes the start of an "animate" tag, up to and including its attributeName.
+   * @param out the writer to write the tag with.
    * @param startTime the start time that a motion occurred.
    * @param duration how long the motion occurred for.
    * @param attributeName the name of the attribute of the shape that is being modified.
-   * @param from the starting value of the attribute being changed.
-   * @param to the final value of the attribute being changed.
-   * @return
+   * @throws IOException if appending the output fails.
    */
-  private String animateTag(double startTime, double duration, String attributeName,
-      String from, String to) {
-    return String.format("<animate attributeType=\"xml\" begin=\"%.1fms\" dur=\"%.1fms\" "
-            + "attributeName=\"%s\"", startTime, duration, attributeName)
-        + " from=\"" + from +  "\" to=\"" + to + "\" fill=\"freeze\" />\n";
+  private static void animateStart(TextWriter out, double startTime, double duration,
+      String attributeName) throws IOException {
+    out.text("<animate attributeType=\"xml\" begin=\"").tenths(startTime)
+        .text("ms\" dur=\"").tenths(duration)
+        .text("ms\" attributeName=\"").text(attributeName).text('"');
   }
 }
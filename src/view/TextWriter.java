@@ -0,0 +1,228 @@
+package view;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Locale;
+
+/**
+ * Writes the text output of a view onto an appendable through a buffer of its own. Numbers are
+ * written straight into the buffer as digits, instead of being formatted into Strings first, and
+ * the buffer is handed to the appendable in large blocks. Decimal numbers are written exactly as
+ * {@link String#format} writes them with the "%.1f" and "%.2f" patterns, always with a period.
+ */
+final class TextWriter {
+  private static final int BUFFER_SIZE = 8192;
+  // decimals at least this large, or this close to halfway between two results, are formatted by
+  // String.format, since their scaled values may be off by more than the rounding error allowed
+  private static final double FAST_LIMIT = 1e7;
+  private static final double TIE_TOLERANCE = 1e-6;
+  // every int below this is exactly a float
+  private static final int FLOAT_EXACT_LIMIT = 1 << 24;
+
+  private final Appendable out;
+  private final char[] buffer;
+  private int length;
+
+  /**
+   * Constructs a writer onto the given appendable.
+   * @param out the appendable to write the text onto.
+   * @throws IllegalArgumentException if out is null
+   */
+  TextWriter(Appendable out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Writer cannot be constructed with null parameters.");
+    }
+    this.out = out;
+    this.buffer = new char[BUFFER_SIZE];
+    this.length = 0;
+  }
+
+  /**
+   * Writes the given text.
+   * @param text the text to write.
+   * @return this writer.
+   * @throws IOException if passing the buffer on to the appendable fails.
+   */
+  TextWriter text(String text) throws IOException {
+    int start = 0;
+    int end = text.length();
+    while (start < end) {
+      if (length == buffer.length) {
+        flush();
+      }
+      int count = Math.min(end - start, buffer.length - length);
+      text.getChars(start, start + count, buffer, length);
+      length += count;
+      start += count;
+    }
+    return this;
+  }
+
+  /**
+   * Writes the given block of text, passing it on to the appendable whole instead of copying it
+   * through this writer's buffer.
+   * @param block the text to write.
+   * @return this writer.
+   * @throws IOException if appending to the appendable fails.
+   */
+  TextWriter text(StringBuilder block) throws IOException {
+    flush();
+    out.append(block);
+    return this;
+  }
+
+  /**
+   * Writes the given character.
+   * @param c the character to write.
+   * @return this writer.
+   * @throws IOException if passing the buffer on to the appendable fails.
+   */
+  TextWriter text(char c) throws IOException {
+    if (length == buffer.length) {
+      flush();
+    }
+    buffer[length] = c;
+    length += 1;
+    return this;
+  }
+
+  /**
+   * Writes the given integer in decimal, as {@link Integer#toString(int)} does.
+   * @param value the integer to write.
+   * @return this writer.
+   * @throws IOException if passing the buffer on to the appendable fails.
+   */
+  TextWriter number(int value) throws IOException {
+    if (value == Integer.MIN_VALUE) {
+      return text(Integer.toString(value));
+    }
+    if (value < 0) {
+      text('-');
+      value = -value;
+    }
+    return digits(value, 1);
+  }
+
+  /**
+   * Writes the given time, in units of time, of the given tick at the given tick rate, the way
+   * {@link Double#toString(double)} writes the tick divided by the tick rate as a float.
+   * @param tick the tick to write the time of.
+   * @param tickRate the tick rate, in ticks per unit of time.
+   * @return this writer.
+   * @throws IOException if passing the buffer on to the appendable fails.
+   */
+  TextWriter time(int tick, int tickRate) throws IOException {
+    // a tick this small is exact as a float, and a whole number time this small is written with a
+    // single decimal zero
+    if (tick >= 0 && tick < FLOAT_EXACT_LIMIT && tick % tickRate == 0
+        && tick / tickRate < FAST_LIMIT) {
+      return number(tick / tickRate).text(".0");
+    }
+    return text(Double.toString((float) tick / tickRate));
+  }
+
+  /**
+   * Writes the given number rounded to one decimal place, as the "%.1f" format does.
+   * @param value the number to write.
+   * @return this writer.
+   * @throws IOException if passing the buffer on to the appendable fails.
+   */
+  TextWriter tenths(double value) throws IOException {
+    return decimal(value, 1, 10, "%.1f");
+  }
+
+  /**
+   * Writes the given number rounded to two decimal places, as the "%.2f" format does.
+   * @param value the number to write.
+   * @return this writer.
+   * @throws IOException if passing the buffer on to the appendable fails.
+   */
+  TextWriter hundredths(double value) throws IOException {
+    return decimal(value, 2, 100, "%.2f");
+  }
+
+  /**
+   * Writes the given non-negative number rounded to six decimal places, leaving off any zeros at
+   * the end of its decimal places, and the decimal point if there are none left.
+   * @param value the number to write.
+   * @return this writer.
+   * @throws IOException if passing the buffer on to the appendable fails.
+   */
+  TextWriter fraction(double value) throws IOException {
+    long millionths = Math.round(value * 1000000);
+    digits(millionths / 1000000, 1);
+    long rest = millionths % 1000000;
+    if (rest == 0) {
+      return this;
+    }
+    int places = 6;
+    while (rest % 10 == 0) {
+      rest /= 10;
+      places -= 1;
+    }
+    text('.');
+    return digits(rest, places);
+  }
+
+  /**
+   * Passes everything written so far on to the appendable.
+   * @throws IOException if appending to the appendable fails.
+   */
+  void flush() throws IOException {
+    if (length == 0) {
+      return;
+    }
+    if (out instanceof Writer) {
+      ((Writer) out).write(buffer, 0, length);
+    } else if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(buffer, 0, length);
+    } else {
+      out.append(CharBuffer.wrap(buffer, 0, length));
+    }
+    length = 0;
+  }
+
+  /**
+   * Writes the given number rounded half up to the given number of decimal places. Formatting
+   * rounds the shortest decimal representation of a number, so a number this close to halfway
+   * may round up even though its exact binary value is below halfway, and is left to it.
+   */
+  private TextWriter decimal(double value, int places, int scale, String pattern)
+      throws IOException {
+    // the sign bit is checked, rather than the value, so that negative zero is formatted too
+    if (Double.doubleToRawLongBits(value) >= 0 && value < FAST_LIMIT) {
+      double scaled = value * scale;
+      double whole = Math.floor(scaled);
+      double fraction = scaled - whole;
+      if (Math.abs(fraction - 0.5) > TIE_TOLERANCE) {
+        long rounded = (long) whole + (fraction > 0.5 ? 1 : 0);
+        digits(rounded / scale, 1);
+        text('.');
+        return digits(rounded % scale, places);
+      }
+    }
+    return text(String.format(Locale.ROOT, pattern, value));
+  }
+
+  /**
+   * Writes the given non-negative number in decimal, padded with zeros to at least the given
+   * number of digits.
+   */
+  private TextWriter digits(long value, int minDigits) throws IOException {
+    int count = 1;
+    for (long rest = value / 10; rest > 0; rest /= 10) {
+      count += 1;
+    }
+    count = Math.max(count, minDigits);
+    if (buffer.length - length < count) {
+      flush();
+    }
+    for (int ii = length + count - 1; ii >= length; ii -= 1) {
+      buffer[ii] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    length += count;
+    return this;
+  }
+}
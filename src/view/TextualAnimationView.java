@@ -47,27 +47,47 @@ public class TextualAnimationView extends AView {
   /**
    * Renders the animation this view represents in a textual output. The formatting is the shape
    * name and type is rendered, and then a list of its corresponding motions in chronological tick
-   * order.
+   * order. The text is written through a {@link TextWriter}, so the appendable receives it in
+   * large blocks rather than line by line.
    *
    * @throws IOException if there is an error with appending to the textual output
    */
   public void render() throws IOException {
     List<Shape> shapes = this.am.getOrderedShapes();
-    appendable.append("canvas " + Integer.toString(topLeftCornerX) + " "
-        + topLeftCornerY + " " + width + " "
-        + height + "\n");
+    TextWriter out = new TextWriter(appendable);
+    out.text("canvas ").number(topLeftCornerX).text(' ').number(topLeftCornerY).text(' ')
+        .number(width).text(' ').number(height).text('\n');
     for (Shape s : shapes) {
-      appendable.append("shape " + s.getName() + " " + s.getType() + "\n");
+      out.text("shape ").text(s.getName()).text(' ').text(s.getType()).text('\n');
       Queue<IMotion> motions = am.getShapeMotions(s);
       for (IMotion m : motions) {
-        double startTime = (float) m.getStartTick() / this.tickRate;
-        double endTime = (float) m.getEndTick() / this.tickRate;
-        appendable.append("motion " + s.getName() + " " + startTime
-            + " " + m.toStringStartValues() + " " + endTime + " "
-            + m.toStringEndValues() + "\n");
+        out.text("motion ").text(s.getName()).text(' ').time(m.getStartTick(), tickRate)
+            .text(' ');
+        writeValues(out, m.getStartX(), m.getStartY(), m.getStartH(), m.getStartW(),
+            m.getStartRGB());
+        out.text(' ').time(m.getEndTick(), tickRate).text(' ');
+        writeValues(out, m.getEndX(), m.getEndY(), m.getEndH(), m.getEndW(), m.getEndRGB());
+        out.text('\n');
       }
     }
+    out.flush();
   }
-}
-
 
+  /**
+   * Writes the values of a shape at one end of a motion, in the same format as
+   * {@link IMotion#toStringStartValues()}.
+   *
+   * @param out the writer to write the values with
+   * @param x   the x position of the shape
+   * @param y   the y position of the shape
+   * @param h   the height of the shape
+   * @param w   the width of the shape
+   * @param rgb the red, green, and blue of the shape's color
+   * @throws IOException if there is an error with appending to the textual output
+   */
+  private static void writeValues(TextWriter out, double x, double y, double h, double w,
+      int[] rgb) throws IOException {
+    out.hundredths(x).text(' ').hundredths(y).text(' ').hundredths(h).text(' ').hundredths(w)
+        .text(' ').number(rgb[0]).text(' ').number(rgb[1]).text(' ').number(rgb[2]);
+  }
+}
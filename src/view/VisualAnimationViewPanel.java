@@ -21,6 +21,16 @@ public class VisualAnimationViewPanel extends JPanel {
   int canvasWidth;
   int canvasHeight;
   boolean filled;
+  // the shapes drawn in the last frame and, for each, its bounding box as x, y, width, and height
+  // and its color, to find what changed from one frame to the next
+  private Shape[] lastShapes;
+  private int[] lastBoxes;
+  private int[] lastColors;
+  private int lastCount;
+  // the area of the canvas that changed since it was last repainted, or null if nothing did
+  private Rectangle dirty;
+  // true if the whole canvas must be repainted, no matter what changed
+  private boolean allDirty;
 
   /**
    * Constructs an animation view panel with default canvas settings of the top left corner (0, 0)
@@ -34,6 +44,12 @@ public class VisualAnimationViewPanel extends JPanel {
     canvasHeight = 0;
     canvasWidth = 0;
     filled = true;
+    lastShapes = new Shape[0];
+    lastBoxes = new int[0];
+    lastColors = new int[0];
+    lastCount = 0;
+    dirty = null;
+    allDirty = true;
   }
 
   /**
@@ -57,6 +73,89 @@ public class VisualAnimationViewPanel extends JPanel {
       }
     }
     this.shapesToDraw = los;
+    findChanges();
+  }
+
+  /**
+   * Compares the shapes to draw with the shapes drawn in the last frame, adding the old and new
+   * bounding boxes of every shape that appeared, disappeared, moved, resized, or changed color to
+   * the dirty area, and remembers the shapes to draw for the next comparison.
+   */
+  private void findChanges() {
+    int count = shapesToDraw.size();
+    if (count > lastShapes.length) {
+      int capacity = Math.max(count, lastShapes.length * 2);
+      Shape[] shapes = new Shape[capacity];
+      System.arraycopy(lastShapes, 0, shapes, 0, lastCount);
+      lastShapes = shapes;
+      int[] boxes = new int[capacity * 4];
+      System.arraycopy(lastBoxes, 0, boxes, 0, lastCount * 4);
+      lastBoxes = boxes;
+      int[] colors = new int[capacity];
+      System.arraycopy(lastColors, 0, colors, 0, lastCount);
+      lastColors = colors;
+    }
+    for (int ii = 0; ii < Math.max(count, lastCount); ii += 1) {
+      if (ii >= count) {
+        addDirty(ii);
+        continue;
+      }
+      Shape s = shapesToDraw.get(ii);
+      // pad the box by a pixel on every side, for outlines and rounding
+      int x = (int) Math.floor(s.getX()) - 1;
+      int y = (int) Math.floor(s.getY()) - 1;
+      int w = (int) Math.ceil(s.getWidth()) + 3;
+      int h = (int) Math.ceil(s.getHeight()) + 3;
+      int color = s.getColor().getRGB();
+      int box = ii * 4;
+      if (ii < lastCount && lastShapes[ii] == s && lastBoxes[box] == x
+          && lastBoxes[box + 1] == y && lastBoxes[box + 2] == w && lastBoxes[box + 3] == h
+          && lastColors[ii] == color) {
+        continue;
+      }
+      if (ii < lastCount) {
+        addDirty(ii);
+      }
+      lastShapes[ii] = s;
+      lastBoxes[box] = x;
+      lastBoxes[box + 1] = y;
+      lastBoxes[box + 2] = w;
+      lastBoxes[box + 3] = h;
+      lastColors[ii] = color;
+      addDirty(ii);
+    }
+    for (int ii = count; ii < lastCount; ii += 1) {
+      lastShapes[ii] = null;
+    }
+    lastCount = count;
+  }
+
+  /**
+   * Adds the last known bounding box of the shape at the given index to the dirty area.
+   */
+  private void addDirty(int index) {
+    int box = index * 4;
+    Rectangle area = new Rectangle(lastBoxes[box] - originX, lastBoxes[box + 1] - originY,
+        lastBoxes[box + 2], lastBoxes[box + 3]);
+    if (dirty == null) {
+      dirty = area;
+    } else {
+      dirty.add(area);
+    }
+  }
+
+  /**
+   * Repaints the parts of this panel that changed since they were last repainted, or nothing if
+   * the last frames were all the same.
+   */
+  protected void repaintChanges() {
+    if (allDirty) {
+      repaint();
+    } else if (dirty != null) {
+      repaint(dirty);
+    }
+    allDirty = false;
+    dirty = null;
   }
 
   /**
@@ -69,6 +168,7 @@ public class VisualAnimationViewPanel extends JPanel {
   protected void setOrigin(int x, int y) {
     this.originX = x;
     this.originY = y;
+    this.allDirty = true;
   }
 
   /**
@@ -84,6 +184,7 @@ public class VisualAnimationViewPanel extends JPanel {
     }
     canvasWidth = w;
     canvasHeight = h;
+    allDirty = true;
   }
 
   @Override
@@ -91,38 +192,73 @@ public class VisualAnimationViewPanel extends JPanel {
     super.paintComponent(g);
 
     Graphics2D g2d = (Graphics2D) g;
-
-    g2d.setColor(Color.BLACK);
+    // only the shapes overlapping the area being repainted need to be drawn
+    Rectangle clip = g2d.getClipBounds();
 
     AffineTransform originalTransform = g2d.getTransform();
-
-    // translate to actual origin
-    g2d.translate(-this.originX, -this.originY);
-
-    g2d.clip(new Rectangle(originX, originY, this.canvasWidth, this.canvasHeight));
+    moveToCanvas(g2d, originX, originY, canvasWidth, canvasHeight);
 
     // loop through the shapes and draw them;
-    if (filled) {
-      for (int ii = 0; ii < this.shapesToDraw.size(); ii++) {
-        Shape s = shapesToDraw.get(ii);
-        g2d.setColor(s.getColor());
-        g2d.fill(s.visualizeShape());
-      }
-    }
-    else {
-      for (int ii = 0; ii < this.shapesToDraw.size(); ii++) {
-        Shape s = shapesToDraw.get(ii);
-        g2d.setColor(s.getColor());
-        g2d.draw(s.visualizeShape());
+    for (int ii = 0; ii < this.shapesToDraw.size(); ii++) {
+      if (outsideClip(clip, ii)) {
+        continue;
       }
+      drawShape(g2d, shapesToDraw.get(ii), filled);
     }
 
     //reset the transform to what it was!
     g2d.setTransform(originalTransform);
   }
 
+  /**
+   * Translates and clips the given graphics so that drawing at the coordinates of the animation
+   * lands on the canvas with the given top left corner and size.
+   *
+   * @param g2d represents the graphics to draw the canvas with
+   * @param x represents the leftmost x-position of the canvas
+   * @param y represents the topmost y-position of the canvas
+   * @param w represents the canvas width
+   * @param h represents the canvas height
+   */
+  static void moveToCanvas(Graphics2D g2d, int x, int y, int w, int h) {
+    g2d.setColor(Color.BLACK);
+    // translate to actual origin
+    g2d.translate(-x, -y);
+    g2d.clip(new Rectangle(x, y, w, h));
+  }
+
+  /**
+   * Draws the given shape in its color, either filled or outlined.
+   *
+   * @param g2d represents the graphics to draw the shape with
+   * @param s represents the shape to draw
+   * @param filled represents whether to fill the shape or only outline it
+   */
+  static void drawShape(Graphics2D g2d, Shape s, boolean filled) {
+    g2d.setColor(s.getColor());
+    if (filled) {
+      g2d.fill(s.visualizeShape());
+    } else {
+      g2d.draw(s.visualizeShape());
+    }
+  }
+
+  /**
+   * Returns true if the last known bounding box of the shape at the given index is entirely
+   * outside the given clip, in this panel's coordinates.
+   */
+  private boolean outsideClip(Rectangle clip, int index) {
+    if (clip == null || index >= lastCount || lastShapes[index] != shapesToDraw.get(index)) {
+      return false;
+    }
+    int box = index * 4;
+    return !clip.intersects(lastBoxes[box] - originX, lastBoxes[box + 1] - originY,
+        lastBoxes[box + 2], lastBoxes[box + 3]);
+  }
+
   void changeFill() {
     this.filled = !this.filled;
+    this.allDirty = true;
   }
 
 }
@@ -0,0 +1,321 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import cs3500.animator.util.AnimationBuilder;
+import cs3500.animator.util.AnimationReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for the AnimationReader class, which reads animation files into a builder.
+ */
+public class AnimationReaderTest {
+  // the size of the files used to test the parallel reader, big enough to be split in two,
+  // but not in three, however many processors there are
+  private static final int SPLIT_SIZE = 600_000;
+  private static final String MOTION =
+      "motion R 1 0 0 10 10 0 0 0 2 0 0 10 10 0 0 0\n";
+
+  /**
+   * Represents a builder for testing that builds the list of calls made to it.
+   */
+  static private class CallRecorder implements AnimationBuilder<List<String>> {
+    private final List<String> calls = new ArrayList<>();
+
+    @Override
+    public List<String> build() {
+      return calls;
+    }
+
+    @Override
+    public AnimationBuilder<List<String>> setBounds(int x, int y, int width, int height) {
+      calls.add("canvas " + x + " " + y + " " + width + " " + height);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<List<String>> declareShape(String name, String type) {
+      calls.add("shape " + name + " " + type);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<List<String>> addMotion(String name,
+        int t1, int x1, int y1, int w1, int h1, int r1, int g1, int b1,
+        int t2, int x2, int y2, int w2, int h2, int r2, int g2, int b2) {
+      calls.add("motion " + name + " " + Arrays.toString(new int[]{t1, x1, y1, w1, h1, r1, g1,
+          b1, t2, x2, y2, w2, h2, r2, g2, b2}));
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<List<String>> addTempo(int start, int end, int speed) {
+      calls.add("tempo " + start + " " + end + " " + speed);
+      return this;
+    }
+  }
+
+  // test the error for a field that is not an integer
+  @Test
+  public void testNotAnInteger() throws IOException {
+    assertError("canvas 0 0 100 1e2\n", "Canvas: expected integer for height, got: 1e2");
+    assertError("shape R rectangle\nmotion R 1 0 0 10 10 0 x 0 2 0 0 10 10 0 0 0\n",
+        "Motion: expected integer for initial green value, got: x");
+    assertError("tempo 1 10 +\n", "Tempo: expected integer for speed, got: +");
+  }
+
+  // test the error for a line starting with an unknown keyword, which shows the whole line
+  @Test
+  public void testUnknownKeyword() throws IOException {
+    assertError("canvas 0 0 100 100\nrotate R 90 # spin\nshape R rectangle\n",
+        "Unexpected keyword: rotate R 90 # spin");
+    assertError("Canvas 0 0 100 100\n", "Unexpected keyword: Canvas 0 0 100 100");
+  }
+
+  // test the errors for lines cut off at the end of the input or by the next line
+  @Test
+  public void testTruncatedLines() throws IOException {
+    assertError("shape R rectangle\nmotion R 1 0 0 10",
+        "Motion: expected integer for initial height, but no more input available");
+    assertError("motion R 1 0 0 10 10 0 0 0 2 0 0\nshape C ellipse\n",
+        "Motion: expected integer for final width, got: shape");
+    assertError("motion", "Motion: Expected a shape name, but no more input available");
+    assertError("shape R", "Shape: Expected a type, but no more input available");
+  }
+
+  // test that integers must fit in an int, including the ends of its range
+  @Test
+  public void testIntegerRange() throws IOException {
+    assertCalls("canvas -2147483648 +2147483647 007 -0\n",
+        "canvas -2147483648 2147483647 7 0");
+    assertError("canvas 2147483648 0 1 1\n",
+        "Canvas: expected integer for left, got: 2147483648");
+    assertError("canvas 0 -2147483649 1 1\n",
+        "Canvas: expected integer for top, got: -2147483649");
+    assertError("canvas 0 0 99999999999999999999 1\n",
+        "Canvas: expected integer for width, got: 99999999999999999999");
+  }
+
+  // test that a '#' starts a comment up to the end of its line, even in the middle of a token
+  @Test
+  public void testComments() throws IOException {
+    assertCalls("# canvas 9 9 9 9\n#\n  # indented\ncanvas 1 2#3 4\n5 6 # 7 8\r\n"
+            + "shape R#x\nrectangle#\n#",
+        "canvas 1 2 5 6", "shape R rectangle");
+    assertCalls("# only a comment");
+  }
+
+  // test that reading a file by path makes the same calls as reading it through a Readable
+  @Test
+  public void testPathSameAsReadable() throws IOException {
+    String text = "# a small animation\ncanvas 0 0 100 100\nshape R rectangle\n"
+        + "shape C ellipse\ntempo 1 10 20\n" + MOTION + "\n  motion C 1 0 0 10 10 0 0 0"
+        + "\t2 -5 +5 10 10 255 0 0 # trailing comment\r\n";
+    List<String> expected =
+        AnimationReader.parseFile(new StringReader(text), new CallRecorder());
+    assertEquals(6, expected.size());
+    Path file = write(text);
+    try {
+      assertEquals(expected, AnimationReader.parseFile(file, new CallRecorder()));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  // test that reading by path reads bytes as ASCII: non-ASCII text in comments is skipped the
+  // same as through a Readable, but a non-ASCII name is read one character per UTF-8 byte
+  @Test
+  public void testPathNonASCII() throws IOException {
+    String text = "# caf\u00e9 \u2192 \u65e5\u672c\ncanvas 0 0 100 100 # \u00fcber\n"
+        + "shape R\u00e9 rectangle\n";
+    Path file = Files.createTempFile("animation", ".txt");
+    Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    try {
+      assertEquals(Arrays.asList("canvas 0 0 100 100", "shape R\u00c3\u00a9 rectangle"),
+          AnimationReader.parseFile(file, new CallRecorder()));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  // test that reading by path with a report appends the throughput of the read
+  @Test
+  public void testPathReport() throws IOException {
+    Path file = write("canvas 0 0 100 100\nshape R rectangle\n" + MOTION);
+    StringBuilder report = new StringBuilder();
+    try {
+      assertEquals(3, AnimationReader.parseFile(file, new CallRecorder(), report).size());
+    } finally {
+      Files.delete(file);
+    }
+    assertTrue(report.toString(),
+        report.toString().matches("Read 0\\.00 MB in \\d+\\.\\d ms \\(\\S+ MB/s\\)\n"));
+  }
+
+  // test that reading in parallel with a report appends the throughput of the read
+  @Test
+  public void testParallelReport() throws IOException {
+    Path file = write(splitFile("shape C ellipse\n", -1));
+    StringBuilder report = new StringBuilder();
+    try {
+      assertEquals(AnimationReader.parseFile(file, new CallRecorder()),
+          AnimationReader.parseFileParallel(file, new CallRecorder(), report));
+    } finally {
+      Files.delete(file);
+    }
+    assertTrue(report.toString(),
+        report.toString().matches("Read 0\\.57 MB in \\d+\\.\\d ms \\(\\S+ MB/s\\)\n"));
+  }
+
+  // test that the parallel reader makes the same calls when a part starts inside a comment
+  @Test
+  public void testParallelSplitInComment() throws IOException {
+    assertParallelSame(splitFile(
+        "# a comment over the split that mentions\tmotion R 1 2 and tempo 1 2 3\n"
+        + "tempo 1 10 20\n", 20));
+  }
+
+  // test that the parallel reader makes the same calls when a part starts at a tempo line
+  @Test
+  public void testParallelSplitAtTempo() throws IOException {
+    assertParallelSame(splitFile("tempo 1 10 20\n" + MOTION, -1));
+  }
+
+  // test that the parallel reader makes the same calls when a part starts at a shape line
+  @Test
+  public void testParallelSplitAtShape() throws IOException {
+    assertParallelSame(splitFile("shape C ellipse\n" + MOTION.replace(" R ", " C "), -1));
+  }
+
+  // test that the parallel reader reads files with fewer lines than parts, and small files
+  @Test
+  public void testParallelFewLines() throws IOException {
+    StringBuilder comment = new StringBuilder("#");
+    for (int ii = 0; ii < 4 * SPLIT_SIZE; ii += 1) {
+      comment.append('-');
+    }
+    assertParallelSame(comment + "\ncanvas 0 0 100 100\nshape R rectangle\n" + MOTION);
+    assertParallelSame("canvas 0 0 100 100\nshape R rectangle\n" + MOTION);
+    assertParallelSame("");
+  }
+
+  // test that an error in a later part is reported the same as by the sequential reader
+  @Test
+  public void testParallelErrorInLaterPart() throws IOException {
+    String text = splitFile(MOTION + MOTION.replace(" 10 0 0 0\n", " 1.0 0 0 0\n"), -1);
+    String expected = null;
+    try {
+      AnimationReader.parseFile(new StringReader(text), new CallRecorder());
+      fail("Sequential read did not fail.");
+    } catch (IllegalStateException e) {
+      expected = e.getMessage();
+    }
+    assertEquals("Motion: expected integer for final height, got: 1.0", expected);
+
+    Path file = write(text);
+    try {
+      AnimationReader.parseFileParallel(file, new CallRecorder());
+      fail("Parallel read did not fail.");
+    } catch (IllegalStateException e) {
+      assertEquals(expected, e.getMessage());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Asserts that reading the given text, through a Readable and from a file, makes the given
+   * calls.
+   */
+  private static void assertCalls(String text, String... calls) throws IOException {
+    assertEquals(Arrays.asList(calls),
+        AnimationReader.parseFile(new StringReader(text), new CallRecorder()));
+    Path file = write(text);
+    try {
+      assertEquals(Arrays.asList(calls), AnimationReader.parseFile(file, new CallRecorder()));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Asserts that reading the given text, through a Readable and from a file, fails with the
+   * given message.
+   */
+  private static void assertError(String text, String message) throws IOException {
+    try {
+      AnimationReader.parseFile(new StringReader(text), new CallRecorder());
+      fail("Reading did not fail.");
+    } catch (IllegalStateException e) {
+      assertEquals(message, e.getMessage());
+    }
+    Path file = write(text);
+    try {
+      AnimationReader.parseFile(file, new CallRecorder());
+      fail("Reading by path did not fail.");
+    } catch (IllegalStateException e) {
+      assertEquals(message, e.getMessage());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Builds the text of an animation file of SPLIT_SIZE characters with the given lines placed
+   * so that the middle of the file, where the parallel reader looks for a line to split at,
+   * falls the given number of characters into them. The rest of the file is motion lines.
+   */
+  private static String splitFile(String middle, int offset) {
+    String head = "canvas 0 0 100 100\nshape R rectangle\n";
+    int before = SPLIT_SIZE / 2 - head.length() - offset;
+    int after = SPLIT_SIZE - head.length() - before - middle.length();
+    return head + padding(before) + middle + padding(after);
+  }
+
+  /**
+   * Returns motion lines followed by a comment line, exactly the given number of characters long.
+   */
+  private static String padding(int length) {
+    StringBuilder padding = new StringBuilder();
+    while (length - padding.length() >= MOTION.length() + 2) {
+      padding.append(MOTION);
+    }
+    padding.append('#');
+    while (padding.length() < length - 1) {
+      padding.append('.');
+    }
+    return padding.append('\n').toString();
+  }
+
+  /**
+   * Asserts that reading the given text in parallel from a file makes the same calls as
+   * reading it sequentially.
+   */
+  private static void assertParallelSame(String text) throws IOException {
+    List<String> expected =
+        AnimationReader.parseFile(new StringReader(text), new CallRecorder());
+    Path file = write(text);
+    try {
+      assertEquals(expected, AnimationReader.parseFileParallel(file, new CallRecorder()));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Writes the given text to a new temporary file.
+   */
+  private static Path write(String text) throws IOException {
+    Path file = Files.createTempFile("animation", ".txt");
+    Files.write(file, text.getBytes(StandardCharsets.ISO_8859_1));
+    return file;
+  }
+}
@@ -35,6 +35,10 @@ public class InteractiveViewTest {
       this.loopButton.doClick();
     }
 
+    private void moveSlider(int tick) {
+      this.tickSlider.setValue(tick);
+    }
+
     @Override
     public void resume() {
       super.resume();
@@ -254,6 +258,11 @@ public class InteractiveViewTest {
         sb.append(newSpeed);
       }
 
+      @Override
+      public void seekToTick(int tick) {
+        sb.append("seek" + tick);
+      }
+
       @Override
       public void restartAnimation() {
         sb.append("restart");
@@ -306,7 +315,72 @@ public class InteractiveViewTest {
     ((MockView)view).runResumeButton();
     ((MockView)view).runDiscreteButton();
     ((MockView)view).runFillButton();
+    ((MockView)view).moveSlider(1);
+
+    assertEquals("restart119looppauseresumediscretefillseek1", sb.toString());
+  }
+
+  // test that seeking moves straight to the tick, and does not trigger a seek from the slider
+  @Test
+  public void testSeek() {
+    StringBuilder sb = new StringBuilder();
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {0, 0, 0};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(1, 100, 0, 99, 0, 99, 10, 10, 10, 10, a, a, "R");
+    am.startAnimation();
+    IAnimationView view = new MockView(am, 10, sb);
+    view.addFeatures(new Features() {
+      @Override
+      public void changeSpeed(int newSpeed) {
+        // empty bc mock
+      }
+
+      @Override
+      public void seekToTick(int tick) {
+        sb.append("seek" + tick);
+      }
+
+      @Override
+      public void restartAnimation() {
+        // empty bc mock
+      }
 
-    assertEquals("restart119looppauseresumediscretefill", sb.toString());
+      @Override
+      public void enableDisableLooping() {
+        // empty bc mock
+      }
+
+      @Override
+      public void resumeAnimation() {
+        // empty bc mock
+      }
+
+      @Override
+      public void pauseAnimation() {
+        // empty bc mock
+      }
+
+      @Override
+      public void enableDisableDiscrete() {
+        // empty bc mock
+      }
+
+      @Override
+      public void toggleFill() {
+        // empty bc mock
+      }
+    });
+    view.seek(50);
+    assertEquals(50, view.getTick());
+    assertEquals("", sb.toString());
+  }
+
+  // test seeking to a negative tick
+  @Test(expected = IllegalArgumentException.class)
+  public void testSeekNegative() {
+    StringBuilder sb = new StringBuilder();
+    IAnimationView view = new MockView(new SimpleAnimationModel(), 10, sb);
+    view.seek(-1);
   }
 }
@@ -61,6 +61,35 @@ public class MotionTest {
     assertEquals(20, r.getX(), .01);
   }
 
+  // test interpolate into writes the state at the end of the one-tick splice at the tick
+  @Test
+  public void testInterpolateInto() {
+    int[] rgb = {50, 40, 20};
+    int[] rgb2 = {100, 40, 20};
+    Shape r = new Rectangle(30, 35, 20, "Rect", false,
+        10, 43, 59, 70);
+    Motion m = new Motion(10, 15, 10, 15, 9,
+        20, 32, 30, 4, 8, rgb,
+        rgb2);
+    Shape expected = new Rectangle(30, 35, 20, "Rect", false,
+        10, 43, 59, 70);
+    m.splice(12, 13).executeMotion(expected);
+    m.interpolateInto(12, r);
+    assertEquals(expected.getX(), r.getX(), .01);
+    assertEquals(13, r.getX(), .01);
+    assertEquals(15.6, r.getY(), .01);
+    assertEquals(30.8, r.getWidth(), .01);
+    assertEquals(6.4, r.getHeight(), .01);
+    assertEquals(expected.getColor(), r.getColor());
+
+    // ticks outside of the motion give its end state
+    m.interpolateInto(20, r);
+    assertEquals(15, r.getX(), .01);
+    assertEquals(8, r.getHeight(), .01);
+    m.interpolateInto(3, r);
+    assertEquals(20, r.getY(), .01);
+  }
+
   // test bitwiseChangeList
   @Test
   public void testBitwiseChangeList() {
@@ -124,7 +153,7 @@ public class MotionTest {
     Motion m = new Motion(10, 15, 10, 15, 9,
         20, 32, 30, 4, 8, rgb, rgb);
 
-    assertEquals(m.getEndRGB(), rgb);
+    assertArrayEquals(m.getEndRGB(), rgb);
 
     // testing where rgb does change
     int[] rgb2 = {0, 0, 0};
@@ -132,7 +161,30 @@ public class MotionTest {
     Motion m2 = new Motion(10, 15, 10, 15, 9,
         20, 32, 30, 4, 8, rgb2, rgb3);
 
-    assertEquals(m2.getEndRGB(), rgb3);
+    assertArrayEquals(m2.getEndRGB(), rgb3);
+  }
+
+  @Test
+  public void testGetColors() {
+    int[] rgb = {50, 40, 20};
+    int[] rgb2 = {255, 0, 7};
+    Motion m = new Motion(10, 15, 10, 15, 9,
+        20, 32, 30, 4, 8, rgb, rgb2);
+
+    assertEquals(0x322814, m.getStartColor());
+    assertEquals(0xFF0007, m.getEndColor());
+    assertArrayEquals(rgb2, m.getEndRGB());
+  }
+
+  // test that colors with values out of bounds or missing are accepted, each value keeping its
+  // low eight bits and a missing value reading as 0
+  @Test
+  public void testColorOutOfBoundsAccepted() {
+    int[] rgb = {50, 40};
+    int[] rgb2 = {256, -1, 0, 7};
+    Motion m = new Motion(10, 15, 10, 15, 9, 20, 32, 30, 4, 8, rgb, rgb2);
+    assertArrayEquals(new int[]{50, 40, 0}, m.getStartRGB());
+    assertArrayEquals(new int[]{0, 255, 0}, m.getEndRGB());
   }
 
   @Test
@@ -143,7 +195,7 @@ public class MotionTest {
         20, 32, 30, 4, 8, rgb,
         rgb);
 
-    assertEquals(m.getStartRGB(), rgb);
+    assertArrayEquals(m.getStartRGB(), rgb);
 
     // testing where rgb does change
     int[] rgb2 = {0, 0, 0};
@@ -151,7 +203,7 @@ public class MotionTest {
     Motion m2 = new Motion(10, 15, 10, 15, 9,
         20, 32, 30, 4, 8, rgb2, rgb3);
 
-    assertEquals(m2.getStartRGB(), rgb2);
+    assertArrayEquals(m2.getStartRGB(), rgb2);
   }
 
   @Test
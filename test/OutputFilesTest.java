@@ -0,0 +1,125 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.util.OutputFiles;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import model.AnimationModel;
+import model.SimpleAnimationModel;
+import model.SimpleAnimationModel.ShapeType;
+import org.junit.Test;
+import view.IAnimationView;
+import view.SVGAnimationView;
+import view.TextualAnimationView;
+
+/**
+ * Tests for opening the output files of the text based views, compressed or not.
+ */
+public class OutputFilesTest {
+
+  // test which file names are compressed
+  @Test
+  public void testIsCompressed() {
+    assertTrue(OutputFiles.isCompressed("out.svgz"));
+    assertTrue(OutputFiles.isCompressed("out.txt.gz"));
+    assertTrue(OutputFiles.isCompressed("OUT.SVGZ"));
+    assertFalse(OutputFiles.isCompressed("out.svg"));
+    assertFalse(OutputFiles.isCompressed("out.gz.txt"));
+  }
+
+  // test opening with invalid params
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullFileName() throws IOException {
+    OutputFiles.open(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLevelTooHigh() throws IOException {
+    OutputFiles.open("out.svgz", 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLevelTooLow() throws IOException {
+    OutputFiles.open("out.svgz", -2);
+  }
+
+  // test that a file not named as compressed is written as is
+  @Test
+  public void testOpenPlain() throws IOException {
+    Path file = Files.createTempFile("animation", ".txt");
+    try (Writer out = OutputFiles.open(file.toString())) {
+      out.append("canvas 0 0 10 10\n");
+    }
+    assertEquals("canvas 0 0 10 10\n",
+        new String(Files.readAllBytes(file), Charset.defaultCharset()));
+    Files.delete(file);
+  }
+
+  // test that an svg view writing to an svgz file gives the same svg, compressed
+  @Test
+  public void testOpenSVGZ() throws IOException {
+    AnimationModel am = makeModel();
+    StringBuilder expected = new StringBuilder();
+    new SVGAnimationView(am, 2, expected).render();
+
+    Path file = Files.createTempFile("animation", ".svgz");
+    try (Writer out = OutputFiles.open(file.toString(), 9)) {
+      IAnimationView av = new SVGAnimationView(am, 2, out);
+      av.render();
+    }
+    assertEquals(expected.toString(), readCompressed(file));
+    assertTrue(Files.size(file) < expected.length());
+    Files.delete(file);
+  }
+
+  // test that a textual view writing to a gz file gives the same text, compressed
+  @Test
+  public void testOpenGZ() throws IOException {
+    AnimationModel am = makeModel();
+    StringBuilder expected = new StringBuilder();
+    new TextualAnimationView(am, 2, expected).render();
+
+    Path file = Files.createTempFile("animation", ".txt.gz");
+    try (Writer out = OutputFiles.open(file.toString(), 0)) {
+      IAnimationView av = new TextualAnimationView(am, 2, out);
+      av.render();
+    }
+    assertEquals(expected.toString(), readCompressed(file));
+    Files.delete(file);
+  }
+
+  /**
+   * Makes an animation with enough repeated motions to be worth compressing.
+   */
+  private static AnimationModel makeModel() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {10, 20, 30};
+    for (int ii = 0; ii < 50; ii += 1) {
+      am.addShape("R" + ii, ShapeType.RECTANGLE);
+      am.addMotion(1, 5, 0, 10, 0, 10, 5, 5, 5, 5, rgb, rgb, "R" + ii);
+    }
+    am.startAnimation();
+    return am;
+  }
+
+  /**
+   * Reads the whole of the given gzip file as text.
+   */
+  private static String readCompressed(Path file) throws IOException {
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        bytes.write(buffer, 0, read);
+      }
+      return new String(bytes.toByteArray(), Charset.defaultCharset());
+    }
+  }
+}
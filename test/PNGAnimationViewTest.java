@@ -0,0 +1,68 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import model.AnimationModel;
+import model.SimpleAnimationModel;
+import model.SimpleAnimationModel.ShapeType;
+import org.junit.Test;
+import view.IAnimationView;
+import view.PNGAnimationView;
+
+/**
+ * Tests for the PNG animation view, which renders every tick of an animation as an image.
+ */
+public class PNGAnimationViewTest {
+
+  // test constructing with invalid params
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullDirectory() {
+    new PNGAnimationView(new SimpleAnimationModel(), 1, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoWorkers() throws IOException {
+    new PNGAnimationView(new SimpleAnimationModel(), 1, Files.createTempDirectory("frames"), 0);
+  }
+
+  // test for unsupported ops
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUpdateTick() throws IOException {
+    IAnimationView av = new PNGAnimationView(new SimpleAnimationModel(), 1,
+        Files.createTempDirectory("frames"));
+    av.updateTick();
+  }
+
+  // test that every tick is written, in the shape's color where it is at that tick
+  @Test
+  public void testRender() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] red = {255, 0, 0};
+    am.setCanvas(0, 0, 100, 100);
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(2, 10, 0, 80, 0, 0, 10, 10, 10, 10, red, red, "R");
+    am.startAnimation();
+    Path directory = Files.createTempDirectory("frames");
+    IAnimationView av = new PNGAnimationView(am, 1, directory, 3);
+    av.render();
+
+    for (int tick = 0; tick <= 10; tick += 1) {
+      assertTrue(Files.exists(directory.resolve(String.format("frame%05d.png", tick))));
+    }
+    assertFalse(Files.exists(directory.resolve("frame00011.png")));
+
+    // nothing is visible before the first motion
+    BufferedImage first = ImageIO.read(directory.resolve("frame00001.png").toFile());
+    assertEquals(0xFFFFFF, first.getRGB(5, 5) & 0xFFFFFF);
+    BufferedImage start = ImageIO.read(directory.resolve("frame00002.png").toFile());
+    assertEquals(0xFF0000, start.getRGB(15, 5) & 0xFFFFFF);
+    BufferedImage end = ImageIO.read(directory.resolve("frame00010.png").toFile());
+    assertEquals(0xFFFFFF, end.getRGB(5, 5) & 0xFFFFFF);
+    assertEquals(0xFF0000, end.getRGB(85, 5) & 0xFFFFFF);
+  }
+}
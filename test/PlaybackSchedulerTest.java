@@ -0,0 +1,75 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import controller.PlaybackScheduler;
+import model.AnimationModel;
+import model.SimpleAnimationModel;
+import org.junit.Test;
+
+/**
+ * Tests for the PlaybackScheduler class, which times the frames of a visual animation.
+ */
+public class PlaybackSchedulerTest {
+
+  // test constructing with invalid params
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullTimeline() {
+    new PlaybackScheduler(null, 0, tick -> { });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullFrameTask() {
+    AnimationModel am = new SimpleAnimationModel();
+    new PlaybackScheduler(am.getTimeline(10), 0, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeFps() {
+    AnimationModel am = new SimpleAnimationModel();
+    new PlaybackScheduler(am.getTimeline(10), -1, tick -> { });
+  }
+
+  // test that a stopped scheduler stays at its tick, and seeking moves it
+  @Test
+  public void testSeekWhileStopped() {
+    AnimationModel am = new SimpleAnimationModel();
+    PlaybackScheduler scheduler = new PlaybackScheduler(am.getTimeline(10), 0, tick -> { });
+    assertFalse(scheduler.isRunning());
+    assertEquals(0, scheduler.getTick(), .001);
+    scheduler.seek(25);
+    assertEquals(25, scheduler.getTick(), .001);
+    assertEquals(0, scheduler.getLateFrames());
+    assertEquals(0, scheduler.getDroppedFrames());
+  }
+
+  // test that changing the timeline keeps the tick playing, even inside a tempo
+  @Test
+  public void testSetTimelineKeepsTick() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.addTempo(5, 20, 2);
+    PlaybackScheduler scheduler = new PlaybackScheduler(am.getTimeline(10), 0, tick -> { });
+    scheduler.seek(12);
+    scheduler.setTimeline(am.getTimeline(50));
+    assertEquals(12, scheduler.getTick(), .001);
+    scheduler.seek(30);
+    scheduler.setTimeline(am.getTimeline(1));
+    assertEquals(30, scheduler.getTick(), .001);
+  }
+
+  // test that playback moves forward while running and stops when stopped
+  @Test
+  public void testStartStop() throws InterruptedException {
+    AnimationModel am = new SimpleAnimationModel();
+    PlaybackScheduler scheduler = new PlaybackScheduler(am.getTimeline(1000), 0, tick -> { });
+    scheduler.start();
+    assertTrue(scheduler.isRunning());
+    Thread.sleep(50);
+    scheduler.stop();
+    assertFalse(scheduler.isRunning());
+    double stoppedAt = scheduler.getTick();
+    assertTrue(stoppedAt >= 50);
+    Thread.sleep(20);
+    assertEquals(stoppedAt, scheduler.getTick(), .001);
+  }
+}
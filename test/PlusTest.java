@@ -1,7 +1,9 @@
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import cs3500.animator.util.AnimationReader;
-import java.awt.Polygon;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
 import java.io.FileReader;
 import java.io.IOException;
 import model.AnimationModel;
@@ -87,8 +89,24 @@ public class PlusTest {
     Shape p = new Plus(255, 255, 255, "plus 1", false, 30,
         40, 100, 100);
 
-    assertEquals(p.visualizeShape(), new Polygon(p.makeXs((int)p.getX(), (int)p.getWidth()),
-        p.makeYs((int)p.getY(), (int)p.getHeight()), 12));
+    int[] xs = p.makeXs((int)p.getX(), (int)p.getWidth());
+    int[] ys = p.makeYs((int)p.getY(), (int)p.getHeight());
+    double[] coords = new double[6];
+    PathIterator points = p.visualizeShape().getPathIterator(null);
+    for (int jj = 0; jj < 12; jj++) {
+      points.currentSegment(coords);
+      assertEquals(xs[jj], coords[0], .001);
+      assertEquals(ys[jj], coords[1], .001);
+      points.next();
+    }
+    assertEquals(PathIterator.SEG_CLOSE, points.currentSegment(coords));
+
+    // the same outline is moved and resized with the plus sign
+    java.awt.Shape visual = p.visualizeShape();
+    p.setX(0);
+    p.setSize(40, 8);
+    assertSame(visual, p.visualizeShape());
+    assertEquals(new Rectangle2D.Double(0, 40, 40, 8), p.visualizeShape().getBounds2D());
   }
 
   @Test
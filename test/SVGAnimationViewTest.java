@@ -4,6 +4,7 @@ import controller.Features;
 import cs3500.animator.util.AnimationReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringWriter;
 import model.AnimationModel;
 import model.Motion;
 import model.SimpleAnimationModel;
@@ -31,6 +32,11 @@ public class SVGAnimationViewTest {
         // empty bc mock
       }
 
+      @Override
+      public void seekToTick(int tick) {
+        // empty bc mock
+      }
+
       @Override
       public void restartAnimation() {
         // empty bc mock
@@ -396,6 +402,160 @@ public class SVGAnimationViewTest {
         + "</svg>", sb.toString());
   }
 
+  // test rounding times and sizes that are not whole numbers
+  @Test
+  public void testFractionalValues() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {1, 2, 3};
+    am.addShape("E", ShapeType.CIRCLE);
+    am.addMotion(1, 2, 10, 10, 20, 20, 5, 7, 7, 7, rgb, rgb, "E");
+    am.startAnimation();
+    StringBuilder sb = new StringBuilder();
+    IAnimationView av = new SVGAnimationView(am, 3, sb);
+    av.render();
+    assertEquals("<svg viewBox = \"0 0 0 0\" version=\"1.1\" "
+        + "xmlns=\"http://www.w3.org/2000/svg\">\n"
+        + "<ellipse id=\"E\" cx=\"12.50\" cy=\"23.50\" rx=\"2.50\" ry=\"3.50\" "
+        + "fill=\"rgb(1,2,3)\" visibility=\"hidden\" >\n"
+        + "<animate attributeType=\"xml\" begin=\"0.0ms\" dur=\"333.3ms\" "
+        + "attributeName=\"visibility\" from=\"hidden\" to=\"visible\" fill=\"freeze\" />"
+        + "<animate attributeType=\"xml\" begin=\"333.3ms\" dur=\"333.3ms\" "
+        + "attributeName=\"rx\" from=\"2\" to=\"3\" fill=\"freeze\" />\n"
+        + "</ellipse>\n"
+        + "</svg>", sb.toString());
+  }
+
+  // test rendering more than fits in one block onto an appendable that is not a StringBuilder
+  @Test
+  public void testRenderToWriter() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {10, 20, 30};
+    for (int ii = 0; ii < 200; ii += 1) {
+      am.addShape("R" + ii, ShapeType.RECTANGLE);
+      am.addMotion(ii, ii + 7, ii, ii, 10, 10, 20, 20, 30, 30, rgb, rgb, "R" + ii);
+    }
+    am.startAnimation();
+    StringBuilder sb = new StringBuilder();
+    new SVGAnimationView(am, 7, sb).render();
+    StringWriter sw = new StringWriter();
+    new SVGAnimationView(am, 7, sw).render();
+    assertEquals(sb.toString(), sw.toString());
+    assertEquals(true, sb.length() > 8192);
+  }
+
+  // test that a view needs at least one worker
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoWorkers() {
+    new SVGAnimationView(new SimpleAnimationModel(), 1, new StringBuilder(), 0);
+  }
+
+  // test that rendering with several workers gives the same file as rendering with one
+  @Test
+  public void testRenderInParallel() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {10, 20, 30};
+    int[] otherRgb = {30, 20, 10};
+    for (int ii = 0; ii < 100; ii += 1) {
+      am.addShape("S" + ii, ShapeType.values()[ii % 3]);
+      am.addMotion(ii, ii + 5, ii, ii + 10, 10, 10, 20, 20, 30, 30, rgb, otherRgb, "S" + ii);
+      am.addMotion(ii + 5, ii + 9, ii + 10, ii, 10, 15, 20, 20, 30, 30, otherRgb, rgb, "S" + ii);
+    }
+    am.startAnimation();
+    StringBuilder one = new StringBuilder();
+    new SVGAnimationView(am, 3, one, 1).render();
+    StringBuilder many = new StringBuilder();
+    new SVGAnimationView(am, 3, many, 4).render();
+    assertEquals(one.toString(), many.toString());
+  }
+
+  // test merging motions that keep changing an attribute at the same rate into one tag
+  @Test
+  public void testCoalesceSteadyMotions() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {1, 2, 3};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(1, 3, 0, 20, 5, 5, 10, 10, 10, 10, rgb, rgb, "R");
+    am.addMotion(3, 5, 20, 40, 5, 5, 10, 10, 10, 10, rgb, rgb, "R");
+    am.startAnimation();
+    StringBuilder sb = new StringBuilder();
+    new SVGAnimationView(am, 1, sb, 1, true).render();
+    assertEquals("<svg viewBox = \"0 0 0 0\" version=\"1.1\" "
+        + "xmlns=\"http://www.w3.org/2000/svg\">\n"
+        + "<rect id=\"R\" x=\"0.00\" y=\"5.00\" width=\"10.00\" height=\"10.00\" "
+        + "fill=\"rgb(1,2,3)\" visibility=\"hidden\" >\n"
+        + "<animate attributeType=\"xml\" begin=\"0.0ms\" dur=\"1000.0ms\" "
+        + "attributeName=\"visibility\" from=\"hidden\" to=\"visible\" fill=\"freeze\" />"
+        + "<animate attributeType=\"xml\" begin=\"1000.0ms\" dur=\"4000.0ms\" "
+        + "attributeName=\"x\" from=\"0\" to=\"40\" fill=\"freeze\" />\n"
+        + "</rect>\n"
+        + "</svg>", sb.toString());
+  }
+
+  // test merging motions that change an attribute at different rates, or after holding it still,
+  // into one tag with keyTimes
+  @Test
+  public void testCoalesceKeyTimes() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {1, 2, 3};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(1, 3, 0, 20, 5, 5, 10, 10, 10, 10, rgb, rgb, "R");
+    am.addMotion(3, 5, 20, 20, 5, 5, 10, 10, 10, 10, rgb, rgb, "R");
+    am.addMotion(5, 6, 20, 0, 5, 5, 10, 20, 10, 10, rgb, rgb, "R");
+    am.startAnimation();
+    StringBuilder sb = new StringBuilder();
+    new SVGAnimationView(am, 1, sb, 1, true).render();
+    assertEquals("<svg viewBox = \"0 0 0 0\" version=\"1.1\" "
+        + "xmlns=\"http://www.w3.org/2000/svg\">\n"
+        + "<rect id=\"R\" x=\"0.00\" y=\"5.00\" width=\"10.00\" height=\"10.00\" "
+        + "fill=\"rgb(1,2,3)\" visibility=\"hidden\" >\n"
+        + "<animate attributeType=\"xml\" begin=\"0.0ms\" dur=\"1000.0ms\" "
+        + "attributeName=\"visibility\" from=\"hidden\" to=\"visible\" fill=\"freeze\" />"
+        + "<animate attributeType=\"xml\" begin=\"1000.0ms\" dur=\"5000.0ms\" "
+        + "attributeName=\"x\" values=\"0;20;20;0\" keyTimes=\"0;0.4;0.8;1\" "
+        + "fill=\"freeze\" />\n"
+        + "<animate attributeType=\"xml\" begin=\"5000.0ms\" dur=\"1000.0ms\" "
+        + "attributeName=\"width\" from=\"10\" to=\"20\" fill=\"freeze\" />\n"
+        + "</rect>\n"
+        + "</svg>", sb.toString());
+  }
+
+  // test that tempos change the times of tags, and keep steady motions at different tempos apart
+  @Test
+  public void testTempoTimes() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {1, 2, 3};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(1, 3, 0, 20, 5, 5, 10, 10, 10, 10, rgb, rgb, "R");
+    am.addMotion(3, 5, 20, 40, 5, 5, 10, 10, 10, 10, rgb, rgb, "R");
+    am.addTempo(3, 5, 2);
+    am.startAnimation();
+    String head = "<svg viewBox = \"0 0 0 0\" version=\"1.1\" "
+        + "xmlns=\"http://www.w3.org/2000/svg\">\n"
+        + "<rect id=\"R\" x=\"0.00\" y=\"5.00\" width=\"10.00\" height=\"10.00\" "
+        + "fill=\"rgb(1,2,3)\" visibility=\"hidden\" >\n"
+        + "<animate attributeType=\"xml\" begin=\"0.0ms\" dur=\"1000.0ms\" "
+        + "attributeName=\"visibility\" from=\"hidden\" to=\"visible\" fill=\"freeze\" />";
+
+    StringBuilder sb = new StringBuilder();
+    new SVGAnimationView(am, 1, sb).render();
+    assertEquals(head
+        + "<animate attributeType=\"xml\" begin=\"1000.0ms\" dur=\"2000.0ms\" "
+        + "attributeName=\"x\" from=\"0\" to=\"20\" fill=\"freeze\" />\n"
+        + "<animate attributeType=\"xml\" begin=\"3000.0ms\" dur=\"1000.0ms\" "
+        + "attributeName=\"x\" from=\"20\" to=\"40\" fill=\"freeze\" />\n"
+        + "</rect>\n"
+        + "</svg>", sb.toString());
+
+    sb = new StringBuilder();
+    new SVGAnimationView(am, 1, sb, 1, true).render();
+    assertEquals(head
+        + "<animate attributeType=\"xml\" begin=\"1000.0ms\" dur=\"3000.0ms\" "
+        + "attributeName=\"x\" values=\"0;20;40\" keyTimes=\"0;0.666667;1\" "
+        + "fill=\"freeze\" />\n"
+        + "</rect>\n"
+        + "</svg>", sb.toString());
+  }
+
   // test inputting from a file
   @Test
   public void testFromFile() throws IOException {
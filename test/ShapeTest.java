@@ -1,4 +1,5 @@
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.awt.Color;
 import java.awt.geom.Ellipse2D;
@@ -125,6 +126,37 @@ public class ShapeTest {
     assertEquals(s2.visualizeShape(), new Ellipse2D.Double(400, 600, 59, 70));
   }
 
+  // test that the visualization is reused, and follows the shape as it changes
+  @Test
+  public void testVisualizeShapeReused() {
+    Shape s = new Rectangle(30, 35, 20, "C", false, 400, 600, 59,
+        70);
+    java.awt.Shape visual = s.visualizeShape();
+    s.setX(10);
+    s.setSize(5, 6);
+    assertSame(visual, s.visualizeShape());
+    assertEquals(new Rectangle2D.Double(10, 600, 5, 6), s.visualizeShape());
+
+    Shape s2 = new Ellipse(30, 35, 20, "C", false, 400, 600, 59,
+        70);
+    java.awt.Shape visual2 = s2.visualizeShape();
+    s2.setY(20);
+    assertSame(visual2, s2.visualizeShape());
+    assertEquals(new Ellipse2D.Double(400, 20, 59, 70), s2.visualizeShape());
+  }
+
+  // test that the color is reused until it changes
+  @Test
+  public void testGetColorReused() {
+    Shape s = new Rectangle(30, 35, 20, "C", false, 400, 600, 59,
+        70);
+    Color color = s.getColor();
+    s.setColor(30, 35, 20);
+    assertSame(color, s.getColor());
+    s.setColor(1, 2, 3);
+    assertEquals(new Color(1, 2, 3), s.getColor());
+  }
+
   @Test
   public void testGetColor() {
     Shape s = new Rectangle(30, 35, 20, "C", false, 400, 600, 59,
@@ -1,17 +1,23 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Queue;
+import model.AnimationFrame;
 import model.AnimationModel;
+import model.AnimationSummary;
 import model.Ellipse;
+import model.IMotion;
 import model.Motion;
 import model.Rectangle;
 import model.Shape;
 import model.SimpleAnimationModel;
+import model.SimpleAnimationModel.Builder;
 import model.SimpleAnimationModel.ShapeType;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -62,6 +68,33 @@ public class SimpleAnimationModelTest {
     assertEquals(14, am.findNextTick(14));
   }
 
+  // testing findPreviousTick, and findNextTick looked up out of order
+  @Test
+  public void testFindPreviousTick() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] i = {40, 40, 40};
+    assertEquals(3, am.findPreviousTick(3));
+
+    am.addShape("C", ShapeType.CIRCLE);
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(3, 6, 150, 150, 150,
+        200, 20, 15, 10, 10, i,
+        i, "C");
+    am.addMotion(5, 7, 150, 150, 150,
+        200, 20, 15, 10, 10, i,
+        i, "R");
+    assertEquals(2, am.findPreviousTick(2));
+    assertEquals(3, am.findPreviousTick(4));
+    assertEquals(5, am.findPreviousTick(5));
+    assertEquals(7, am.findPreviousTick(20));
+
+    assertEquals(7, am.findNextTick(7));
+    assertEquals(3, am.findNextTick(0));
+    assertEquals(5, am.findNextTick(4));
+    assertEquals(6, am.findNextTick(6));
+    assertEquals(9, am.findNextTick(9));
+  }
+
   // testing isAnimationOver with no motions
   @Test
   public void testIsAnimationOverNoMotions() {
@@ -84,6 +117,64 @@ public class SimpleAnimationModelTest {
     assertFalse(am.isAnimationOver(3));
   }
 
+  // testing getLastTick with and without motions
+  @Test
+  public void testGetLastTick() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {3, 4, 5};
+    assertEquals(0, am.getLastTick());
+
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addShape("C", ShapeType.CIRCLE);
+    am.addMotion(2, 4, 3, 3, 5, 4, 2, 2, 5,
+        5, a, a, "R");
+    am.addMotion(4, 9, 3, 3, 4, 4, 2, 2, 5,
+        5, a, a, "R");
+    am.addMotion(1, 6, 3, 3, 5, 4, 2, 2, 5,
+        5, a, a, "C");
+    assertEquals(9, am.getLastTick());
+  }
+
+  // testing the summary of an animation's timing
+  @Test
+  public void testGetSummary() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {3, 4, 5};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addShape("C", ShapeType.CIRCLE);
+    am.addShape("P", ShapeType.PLUS);
+    am.addMotion(2, 4, 3, 3, 5, 4, 2, 2, 5,
+        5, a, a, "R");
+    am.addMotion(4, 9, 3, 3, 4, 4, 2, 2, 5,
+        5, a, a, "R");
+    am.addMotion(6, 8, 3, 3, 5, 4, 2, 2, 5,
+        5, a, a, "C");
+    am.startAnimation();
+
+    AnimationSummary summary = am.getSummary();
+    assertEquals(2, summary.getFirstTick());
+    assertEquals(9, summary.getLastTick());
+    assertEquals(7, summary.getDuration());
+    assertEquals(2, summary.getLifespan(am.getShapes().get("R")).getStartTick());
+    assertEquals(9, summary.getLifespan(am.getShapes().get("R")).getEndTick());
+    assertEquals(6, summary.getLifespan(am.getShapes().get("C")).getStartTick());
+    assertNull(summary.getLifespan(am.getShapes().get("P")));
+    assertFalse(summary.isOver(8));
+    assertTrue(summary.isOver(9));
+  }
+
+  // testing isAnimationOver with a motion that starts and ends on the last tick
+  @Test
+  public void testIsAnimationOverInstantMotion() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {3, 4, 5};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(4, 4, 3, 3, 5, 5, 2, 2, 5,
+        5, a, a, "R");
+    assertFalse(am.isAnimationOver(4));
+    assertTrue(am.isAnimationOver(5));
+  }
+
   // testing isAnimationOver with invalid tick
   @Test(expected = IllegalArgumentException.class)
   public void testIsAnimationOverBadInput() {
@@ -91,6 +182,169 @@ public class SimpleAnimationModelTest {
     boolean b = am.isAnimationOver(-1);
   }
 
+  // testing getMotionAt finds the motion during or most recently before a tick
+  @Test
+  public void testGetMotionAt() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {3, 4, 5};
+
+    am.addShape("R", ShapeType.RECTANGLE);
+    Shape r = am.getShapes().get("R");
+    assertEquals(null, am.getMotionAt(r, 0));
+
+    am.addMotion(6, 10, 3, 3, 4, 4, 2, 2, 5,
+        5, a, a, "R");
+    am.addMotion(2, 4, 3, 3, 5, 4, 2, 2, 5,
+        5, a, a, "R");
+    am.addMotion(4, 6, 3, 3, 4, 4, 2, 2, 5,
+        5, a, a, "R");
+    am.startAnimation();
+
+    assertEquals(null, am.getMotionAt(r, 1));
+    assertEquals(2, am.getMotionAt(r, 2).getStartTick());
+    assertEquals(2, am.getMotionAt(r, 3).getStartTick());
+    assertEquals(4, am.getMotionAt(r, 4).getStartTick());
+    assertEquals(6, am.getMotionAt(r, 9).getStartTick());
+    assertEquals(6, am.getMotionAt(r, 10).getStartTick());
+    assertEquals(6, am.getMotionAt(r, 40).getStartTick());
+  }
+
+  // testing getMotionAt reflects motions added after a previous lookup
+  @Test
+  public void testGetMotionAtAfterAddingMotion() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {3, 4, 5};
+
+    am.addShape("R", ShapeType.RECTANGLE);
+    Shape r = am.getShapes().get("R");
+    am.addMotion(2, 4, 3, 3, 5, 4, 2, 2, 5,
+        5, a, a, "R");
+    assertEquals(2, am.getMotionAt(r, 7).getStartTick());
+
+    am.addMotion(4, 6, 3, 3, 4, 4, 2, 2, 5,
+        5, a, a, "R");
+    assertEquals(4, am.getMotionAt(r, 7).getStartTick());
+  }
+
+  // testing getMotionAt with invalid tick
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetMotionAtBadTick() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.getMotionAt(am.getShapes().get("R"), -1);
+  }
+
+  // testing getMotionAt with a shape that is not in the animation
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetMotionAtBadShape() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.getMotionAt(new Rectangle("R"), 1);
+  }
+
+  // testing getFrame fills in the state of each shape at a tick
+  @Test
+  public void testGetFrame() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {0, 0, 0};
+    int[] b = {100, 50, 10};
+
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addShape("C", ShapeType.CIRCLE);
+    am.addMotion(2, 12, 0, 100, 5, 5, 10, 20, 4, 4, a, b, "R");
+    am.addMotion(5, 5, 3, 3, 3, 3, 3, 3, 3, 3, a, a, "C");
+    am.startAnimation();
+
+    AnimationFrame frame = am.getFrame(1);
+    assertEquals(1, frame.getTick());
+    assertEquals(2, frame.size());
+    assertFalse(frame.isVisible(0));
+    assertFalse(frame.isVisible(1));
+
+    // frames during a motion show the state at the end of the tick
+    frame = am.getFrame(4);
+    assertTrue(frame.isVisible(0));
+    assertFalse(frame.isVisible(1));
+    frame = am.getFrame(6);
+    assertTrue(frame.isVisible(0));
+    assertTrue(frame.isVisible(1));
+    assertEquals(50, frame.getX(0), 0.001);
+    assertEquals(5, frame.getY(0), 0.001);
+    assertEquals(15, frame.getWidth(0), 0.001);
+    assertEquals(4, frame.getHeight(0), 0.001);
+    assertEquals((50 << 16) | (25 << 8) | 5, frame.getRGB(0));
+
+    // frames after a motion show its end state
+    frame = am.getFrame(20);
+    assertTrue(frame.isVisible(0));
+    assertTrue(frame.isVisible(1));
+    assertEquals(100, frame.getX(0), 0.001);
+    assertEquals(20, frame.getWidth(0), 0.001);
+    assertEquals((100 << 16) | (50 << 8) | 10, frame.getRGB(0));
+    assertEquals(3, frame.getX(1), 0.001);
+  }
+
+  // testing getFrame fills and returns the given frame
+  @Test
+  public void testGetFrameGivenFrame() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {0, 0, 0};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(2, 12, 0, 100, 5, 5, 10, 20, 4, 4, a, a, "R");
+    am.startAnimation();
+
+    AnimationFrame frame = new AnimationFrame(0);
+    assertTrue(frame == am.getFrame(11, frame));
+    assertEquals(1, frame.size());
+    assertEquals(100, frame.getX(0), 0.001);
+    assertTrue(am.getFrame(3) != frame);
+  }
+
+  // testing getFrame with invalid tick
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetFrameBadTick() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.getFrame(-1);
+  }
+
+  // testing getFrame between ticks moves shapes at a steady rate across the boundary between
+  // two motions, and only shows shapes once their first tick is reached
+  @Test
+  public void testGetFrameBetweenTicks() {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] a = {0, 0, 0};
+    int[] b = {80, 0, 0};
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addShape("C", ShapeType.CIRCLE);
+    am.addMotion(1, 5, 0, 40, 5, 5, 10, 10, 4, 4, a, a, "R");
+    am.addMotion(5, 9, 40, 80, 5, 5, 10, 10, 4, 4, a, b, "R");
+    am.addMotion(5, 5, 3, 3, 3, 3, 3, 3, 3, 3, a, a, "C");
+    am.startAnimation();
+
+    // the state rendered at each whole tick t has R at x = 10 * t, so in between it is the same
+    AnimationFrame frame = new AnimationFrame(0);
+    for (double time = 3; time <= 6; time += .25) {
+      assertTrue(frame == am.getFrame(time, frame));
+      assertEquals(time, frame.getTime(), 0.001);
+      assertEquals((int) time, frame.getTick());
+      assertEquals(10 * time, frame.getX(0), 0.001);
+      assertEquals(5, frame.getY(0), 0.001);
+      assertEquals(time >= 5, frame.isVisible(1));
+    }
+    // colors blend too
+    assertEquals(10 << 16, am.getFrame(4.5, frame).getRGB(0));
+    assertEquals(20 << 16, am.getFrame(5.0, frame).getRGB(0));
+    assertEquals(30 << 16, am.getFrame(5.5, frame).getRGB(0));
+    assertEquals(80 << 16, am.getFrame(20.5, frame).getRGB(0));
+    assertEquals(80, frame.getX(0), 0.001);
+  }
+
+  // testing getFrame between ticks with an invalid time
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetFrameBetweenTicksBadTime() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.getFrame(-0.5, new AnimationFrame(0));
+  }
+
   // testing getShapes if the list of shapes is empty
   @Test
   public void testGetShapesEmpty() {
@@ -606,7 +860,6 @@ public class SimpleAnimationModelTest {
   // TODO test adding a motion with no overlaps to existing motions in order
   // TODO test adding a motion that does nothing
   // TODO Test adding a motion that overlaps two existing motions
-  // TODO Test adding motions out of order (i.e. t=1 to t=2, t=4 to t=5, then t=2 to 2=3)
 
   /**
    * Test error with overlapping change of x position for two motions.
@@ -707,6 +960,78 @@ public class SimpleAnimationModelTest {
     assertEquals(motion1, am.getShapeMotions("R").peek());
   }
 
+  // test adding motions out of order keeps them sorted by start tick
+  @Test
+  public void testAddMotionsOutOfOrder() {
+    int[] a = {3, 4, 5};
+    AnimationModel am = new SimpleAnimationModel();
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(4, 5, 4, 4, 5, 5, 8, 8, 10, 10, a, a, "R");
+    am.addMotion(1, 2, 4, 4, 5, 5, 8, 8, 10, 10, a, a, "R");
+    am.addMotion(2, 4, 4, 4, 5, 5, 8, 8, 10, 10, a, a, "R");
+    am.startAnimation();
+    Queue<IMotion> motions = am.getShapeMotions("R");
+    assertEquals(3, motions.size());
+    assertEquals(1, motions.poll().getStartTick());
+    assertEquals(2, motions.poll().getStartTick());
+    assertEquals(4, motions.poll().getStartTick());
+  }
+
+  // test adding a motion that contains an existing motion splits it around the existing motion
+  @Test
+  public void testAddMotionContainingMotion() {
+    int[] a = {3, 4, 5};
+    AnimationModel am = new SimpleAnimationModel();
+    am.addShape("R", ShapeType.RECTANGLE);
+    am.addMotion(3, 4, 4, 4, 5, 5, 8, 8, 10, 10, a, a, "R");
+    am.addMotion(1, 6, 4, 4, 5, 5, 8, 8, 10, 10, a, a, "R");
+    am.startAnimation();
+    Queue<IMotion> motions = am.getShapeMotions("R");
+    assertEquals(3, motions.size());
+    IMotion first = motions.poll();
+    assertEquals(1, first.getStartTick());
+    assertEquals(3, first.getEndTick());
+    assertEquals(3, motions.poll().getStartTick());
+    assertEquals(6, motions.poll().getEndTick());
+  }
+
+
+  // test a bulk loading builder builds the same animation as adding motions one at a time
+  @Test
+  public void testBulkLoadBuilder() {
+    Builder builder = new Builder();
+    Builder bulkBuilder = new Builder(true);
+    for (Builder b : Arrays.asList(builder, bulkBuilder)) {
+      b.declareShape("R", "rectangle");
+      b.declareShape("C", "ellipse");
+      b.addMotion("R", 4, 4, 5, 8, 10, 3, 4, 5, 5, 4, 5, 8, 10, 3, 4, 5);
+      b.addMotion("C", 2, 1, 1, 1, 1, 0, 0, 0, 6, 5, 1, 1, 1, 0, 0, 0);
+      b.addMotion("R", 1, 4, 5, 8, 10, 3, 4, 5, 4, 4, 5, 8, 10, 3, 4, 5);
+      b.addMotion("R", 2, 4, 5, 8, 10, 3, 4, 5, 3, 4, 5, 8, 10, 3, 4, 5);
+    }
+    AnimationModel am = builder.build();
+    AnimationModel bulk = bulkBuilder.build();
+    assertEquals(am.toString(), bulk.toString());
+    assertEquals(4, bulk.getShapeMotions("R").size());
+    assertEquals(1, bulk.getShapeMotions("C").size());
+  }
+
+  // test a bulk loading builder checks for jumps in shape state when built
+  @Test(expected = IllegalStateException.class)
+  public void testBulkLoadBuilderJump() {
+    Builder builder = new Builder(true);
+    builder.declareShape("R", "rectangle");
+    builder.addMotion("R", 1, 4, 5, 8, 10, 3, 4, 5, 2, 4, 5, 8, 10, 3, 4, 5);
+    builder.addMotion("R", 2, 9, 5, 8, 10, 3, 4, 5, 3, 9, 5, 8, 10, 3, 4, 5);
+    builder.build();
+  }
+
+  // test a bulk loading builder still rejects motions for shapes that don't exist right away
+  @Test(expected = IllegalArgumentException.class)
+  public void testBulkLoadBuilderBadShape() {
+    Builder builder = new Builder(true);
+    builder.addMotion("R", 1, 4, 5, 8, 10, 3, 4, 5, 2, 4, 5, 8, 10, 3, 4, 5);
+  }
 
   // TODO Test adding a motion as a teleport (i.e. m1 t=1 to t=1, x = 200 -> x = 300 (valid move)
 
@@ -3,6 +3,7 @@ import model.AnimationModel;
 import model.ITempo;
 import model.SimpleAnimationModel;
 import model.Tempo;
+import model.TempoTimeline;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -87,6 +88,77 @@ public class TempoTest {
     am.addTempo(2, 5, 10);
   }
 
+  // test adding a tempo that contains an existing tempo
+  @Test(expected = IllegalArgumentException.class)
+  public void testContainingTempoToModel() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.addTempo(3, 5, 5);
+    am.addTempo(1, 10, 10);
+  }
+
+  // test getting tempos for every tick in order, including after adding another tempo
+  @Test
+  public void testGetTempoInOrder() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.addTempo(3, 5, 10);
+    am.addTempo(5, 5, 20);
+    am.addTempo(8, 9, 30);
+    int[] expected = {0, 0, 0, 10, 10, 20, 0, 0, 30, 0, 0};
+    for (int ii = 0; ii < expected.length; ii += 1) {
+      assertEquals(expected[ii], am.getTempo(ii));
+    }
+    am.addTempo(6, 7, 40);
+    assertEquals(40, am.getTempo(6));
+    assertEquals(0, am.getTempo(7));
+    assertEquals(30, am.getTempo(8));
+  }
+
+  // test the timeline of an animation without tempos
+  @Test
+  public void testTimelineNoTempos() {
+    AnimationModel am = new SimpleAnimationModel();
+    TempoTimeline timeline = am.getTimeline(20);
+    assertEquals(20, timeline.getTickRate());
+    assertEquals(0, timeline.getTimeOfTick(0), .001);
+    assertEquals(500, timeline.getTimeOfTick(10), .001);
+    assertEquals(10.5, timeline.getTickAtTime(525), .001);
+  }
+
+  // test the timeline of an animation with tempos, between, during, and after them
+  @Test
+  public void testTimelineWithTempos() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.addTempo(2, 4, 5);
+    am.addTempo(4, 4, 1);
+    am.addTempo(8, 10, 20);
+    TempoTimeline timeline = am.getTimeline(10);
+    // ticks 0-1 at 10 ticks per second, 2-3 at 5, 4 at 1, 5-7 at 10, 8-9 at 20, then 10
+    double[] expected = {0, 100, 200, 400, 600, 1600, 1700, 1800, 1900, 1950, 2000, 2100};
+    for (int ii = 0; ii < expected.length; ii += 1) {
+      assertEquals(expected[ii], timeline.getTimeOfTick(ii), .001);
+      assertEquals(ii, timeline.getTickAtTime(expected[ii]), .001);
+    }
+    assertEquals(2.5, timeline.getTickAtTime(300), .001);
+    assertEquals(4.25, timeline.getTickAtTime(850), .001);
+
+    // the timeline changes with the tick rate and tempos
+    assertEquals(1000, am.getTimeline(2).getTimeOfTick(2), .001);
+    am.addTempo(0, 1, 1);
+    assertEquals(1100, am.getTimeline(10).getTimeOfTick(2), .001);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTimelineBadTickRate() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.getTimeline(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTimelineBadTick() {
+    AnimationModel am = new SimpleAnimationModel();
+    am.getTimeline(10).getTimeOfTick(-1);
+  }
+
   // test getting a tempo with no tempos at that tick
   @Test
   public void testNoTempos() {
@@ -33,6 +33,11 @@ public class TextualAnimationViewTest {
         // empty bc mock
       }
 
+      @Override
+      public void seekToTick(int tick) {
+        // empty bc mock
+      }
+
       @Override
       public void restartAnimation() {
         // empty bc mock
@@ -251,6 +256,23 @@ public class TextualAnimationViewTest {
     assertEquals(sb.toString(), "canvas 0 0 0 0\n");
   }
 
+  // test textual render of times and values that are not whole numbers
+  @Test
+  public void testRenderTextualFractions() throws IOException {
+    AnimationModel am = new SimpleAnimationModel();
+    int[] rgb = {1, 2, 3};
+    am.addShape("E", ShapeType.CIRCLE);
+    am.addMotion(1, 3, 2.345, 10.5, 1.004, 0, 7, 7, 4.999, 5, rgb, rgb, "E");
+    am.startAnimation();
+    StringBuilder sb = new StringBuilder();
+    IAnimationView av = new TextualAnimationView(am, 3, sb);
+    av.render();
+    assertEquals("canvas 0 0 0 0\n"
+        + "shape E ellipse\n"
+        + "motion E 0.3333333432674408 2.35 1.00 5.00 7.00 1 2 3 "
+        + "1.0 10.50 0.00 5.00 7.00 1 2 3\n", sb.toString());
+  }
+
   // test textual render, smalldemo.txt
   @Test
   public void testRenderTextualBuildings() throws IOException {
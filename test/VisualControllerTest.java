@@ -1,11 +1,15 @@
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import controller.IController;
 import controller.VisualController;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import javax.swing.SwingUtilities;
 import model.AnimationModel;
 import model.SimpleAnimationModel;
 import org.junit.Test;
+import view.AView;
 import view.IAnimationView;
 import view.IAnimationViewModel;
 import view.TextualAnimationView;
@@ -194,6 +198,82 @@ public class VisualControllerTest {
     }
   }
 
+  /**
+   * Represents a mock visual view that counts the ticks it passes over and the frames it renders,
+   * taking a while to render each frame so that playback falls behind.
+   */
+  static private class CountingView extends AView {
+    private int tick;
+    private int renders;
+
+    /**
+     * Constructs a counting view of the given ViewModel and tick rate, at tick 0.
+     *
+     * @param av       represents the ViewModel for this animation
+     * @param tickRate represents the given initial tick rate in ticks per unit of time
+     */
+    private CountingView(IAnimationViewModel av, int tickRate) {
+      super(av, tickRate);
+      this.tick = 0;
+      this.renders = 0;
+    }
+
+    @Override
+    public void render() {
+      this.renders += 1;
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void updateTick() {
+      this.advanceTick();
+      this.render();
+    }
+
+    @Override
+    public void advanceTick() {
+      this.tick += 1;
+    }
+
+    @Override
+    public void renderBetweenTicks(double fraction) {
+      this.render();
+    }
+
+    @Override
+    public int getTick() {
+      return this.tick;
+    }
+  }
+
+  /**
+   * Represents a controller for testing whose playback can be stopped directly.
+   */
+  static private class StoppableController extends VisualController {
+
+    /**
+     * Constructs a new controller with the given model, view, and tick rate.
+     *
+     * @param model represents the animation model that holds the information about this animation
+     * @param view  represents the animation view that renders this animation
+     * @param speed represents the initial tick rate of this animation, given as ticks per unit
+     */
+    private StoppableController(AnimationModel model, IAnimationView view, int speed) {
+      super(model, view, speed);
+    }
+
+    /**
+     * Stops playback of the animation.
+     */
+    private void stop() {
+      scheduler.stop();
+    }
+  }
+
   // test constructor errors
   @Test(expected = IllegalArgumentException.class)
   public void testNullModel() {
@@ -213,6 +293,12 @@ public class VisualControllerTest {
         new TextualAnimationView(new SimpleAnimationModel(), 3), 0);
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalFps() {
+    IController c = new VisualController(new SimpleAnimationModel(),
+        new TextualAnimationView(new SimpleAnimationModel(), 3), 3, -1);
+  }
+
   // test go method with visual view
   @Test
   public void testVisualViewGo() {
@@ -367,4 +453,30 @@ public class VisualControllerTest {
     ((MockController)c).checkSlowMo();
     assertEquals(30, ((MockView)av).getTickRate());
   }
+
+  // test that ticks skipped over when rendering falls behind are not rendered, and are counted
+  // as dropped
+  @Test
+  public void testSkippedTicksNotRendered() throws InterruptedException,
+      InvocationTargetException {
+    AnimationModel am = new SimpleAnimationModel();
+    CountingView av = new CountingView(am, 1000);
+    StoppableController c = new StoppableController(am, av, 1000);
+    c.animationGo();
+    Thread.sleep(300);
+
+    int[] ticks = new int[1];
+    int[] renders = new int[1];
+    long[] dropped = new long[1];
+    // frames are rendered on the event dispatch thread, so stop and read the counts there
+    SwingUtilities.invokeAndWait(() -> {
+      c.stop();
+      ticks[0] = av.getTick();
+      renders[0] = av.renders;
+      dropped[0] = c.getDroppedFrames();
+    });
+    assertTrue(renders[0] > 0);
+    assertTrue(renders[0] * 2 < ticks[0]);
+    assertEquals(ticks[0], renders[0] + dropped[0]);
+  }
 }